@@ -1,16 +1,19 @@
 import controller.*;
 import model.*;
+import view.AssetLoader;
+import view.Fonts;
 import view.MazeViewFrame;
 
 import javax.swing.*;
+import java.awt.*;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 
 /**
  * Main class for launching the Christmas Trivia Maze application. It sets the look and feel of
- * the user interface and initializes the game controller,  music functionality (if available),
- * and the maze view frame.
+ * the user interface, starts loading the game assets in the background, and initializes the game
+ * controller, music functionality (if available), and the maze view frame.
  *
  * @author Mathew Miller
  * @author Cai Spidel
@@ -19,15 +22,22 @@ import java.util.ArrayList;
  */
 public final class MazeApplication {
 
+    /** The height of the progress bar drawn on the splash screen, in pixels. */
+    private static final int SPLASH_BAR_HEIGHT = 6;
+
     /**
-     * The entry point for the Maze application. It sets the look and feel, initializes the game
-     * controller, loads the song list, and configures the view with or without music.
+     * The entry point for the Maze application. It starts decoding the images, font and sound
+     * effects on background threads, sets the look and feel, initializes the game controller,
+     * loads the song list, and configures the view with or without music. Building the view
+     * only waits for the assets it uses.
      *
      * @param theArgs command-line arguments (not used)
      * @throws URISyntaxException if there is an error with URI syntax
      * @throws IOException if there is an error with I/O operations
      */
     public static void main(final String[] theArgs) throws URISyntaxException, IOException {
+        // once the font is decoded, its glyphs are warmed up off the event dispatch thread
+        AssetLoader.start(MazeApplication::showLoadingProgress).thenRun(Fonts::warmUpGlyphs);
         try {
             UIManager.setLookAndFeel( UIManager.getCrossPlatformLookAndFeelClassName());
         } catch (UnsupportedLookAndFeelException | ClassNotFoundException |
@@ -52,4 +62,29 @@ public final class MazeApplication {
         view.setResizable(false);
         view.setVisible(true);
     }
+
+    /**
+     * Draws the loading progress at the bottom of the splash screen, if the application was
+     * started with one.
+     *
+     * @param theLoaded the number of assets loaded so far
+     * @param theTotal the number of assets being loaded
+     */
+    private static synchronized void showLoadingProgress(final int theLoaded, final int theTotal) {
+        SplashScreen splash = SplashScreen.getSplashScreen();
+        if (splash == null || !splash.isVisible()) {
+            return;
+        }
+        try {
+            Dimension size = splash.getSize();
+            Graphics2D graphics = splash.createGraphics();
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, size.height - SPLASH_BAR_HEIGHT,
+                    size.width * theLoaded / theTotal, SPLASH_BAR_HEIGHT);
+            graphics.dispose();
+            splash.update();
+        } catch (final IllegalStateException theException) {
+            // the splash screen closes as soon as the frame is shown
+        }
+    }
 }
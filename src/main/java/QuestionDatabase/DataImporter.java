@@ -1,14 +1,15 @@
 package QuestionDatabase;
 
+import model.QuestionSchema;
 import org.sqlite.SQLiteDataSource;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.sql.Statement;
 
 /**
  * A utility class for importing and setting up a database for storing question data.
- * The database includes tables for multiple-choice, boolean, and text-input questions.
+ * The database holds every question in one table, and questions in the older layout of one
+ * table per type are moved into it.
  *
  * @author Mathew Miller
  * @author Jacob Klymenko (Javadoc)
@@ -22,9 +23,8 @@ public final class DataImporter {
     /**
      * Sets up the database by creating tables if they do not already exist.
      * Tables include:
-     * - multiple_choice_question
-     * - boolean_question
-     * - text_input_question
+     * - question, with a type column telling which kind of question each row is
+     * - question_choice, the wrong answers of multiple choice questions
      */
     private void setupDatabase(){
         SQLiteDataSource qdb;
@@ -38,51 +38,26 @@ public final class DataImporter {
             System.exit(0);
         }
 
-        String query = """
-                CREATE TABLE IF NOT EXISTS multiple_choice_question
-                (
-                    question       TEXT NOT NULL,
-                    answer         TEXT NOT NULL,
-                    wrong_answer_1 TEXT NOT NULL,
-                    wrong_answer_2 TEXT NOT NULL,
-                    wrong_answer_3 TEXT NOT NULL
-                );
-                """;
-        try (Statement stmt = myConn.createStatement();) {
-            int rv = stmt.executeUpdate(query);
-            System.out.println("executeUpdate() returned " + rv);
-        } catch (SQLException e) {
-            e.printStackTrace();
-            System.exit(0);
-        }
-
-        query = """
-                CREATE TABLE IF NOT EXISTS boolean_question
-                (
-                    question     TEXT NOT NULL,
-                    answer       BOOLEAN NOT NULL
-                );
-                """;
-
-        try (Statement stmt = myConn.createStatement();) {
-            int rv = stmt.executeUpdate(query);
-            System.out.println("executeUpdate() returned " + rv);
+        try {
+            QuestionSchema.createTables(myConn);
+            System.out.println("Created the question and question_choice tables");
         } catch (SQLException e) {
             e.printStackTrace();
             System.exit(0);
         }
+    }
 
-        query = """
-                CREATE TABLE IF NOT EXISTS text_input_question
-                (
-                    question TEXT NOT NULL,
-                    answer   TEXT NOT NULL
-                );
-                """;
-
-        try (Statement stmt = myConn.createStatement();) {
-            int rv = stmt.executeUpdate(query);
-            System.out.println("executeUpdate() returned " + rv);
+    /**
+     * Moves the questions of the older per-type tables into the question tables, if the
+     * question table is still empty. The older tables are:
+     * - multiple_choice_question
+     * - boolean_question
+     * - text_input_question
+     */
+    private void migrateDatabase() {
+        try {
+            int migrated = QuestionSchema.migrateLegacyTables(myConn);
+            System.out.println("Migrated " + migrated + " questions");
         } catch (SQLException e) {
             e.printStackTrace();
             System.exit(0);
@@ -97,5 +72,6 @@ public final class DataImporter {
     public static void main(String[] args) {
         DataImporter di = new DataImporter();
         di.setupDatabase();
+        di.migrateDatabase();
     }
 }
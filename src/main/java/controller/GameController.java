@@ -1,14 +1,18 @@
 package controller;
 
 import model.*;
+import model.generation.RecursiveBacktrackerGenerator;
 import view.MazeViewFrame;
 
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import java.io.*;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 /**
  * Controls the logic and interactions of the game, coordinating between the view, player, and maze.
@@ -21,10 +25,20 @@ import java.util.List;
 public final class GameController implements GameListener {
 
     /**
-     * The list of questions used in the game, fetched from the database.
+     * The thread the questions are loaded on, so reading the database never holds up the
+     * event dispatch thread or the threads decoding the assets.
      */
-    private final List<Question> myQuestionList =
-            new ArrayList<>(QuestionFactory.getQuestionsFromDatabase());
+    private static final Executor QUESTION_LOADER = Executors.newSingleThreadExecutor(theTask -> {
+        Thread thread = new Thread(theTask, "Question loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The questions used in the game, which start loading as soon as the controller is created.
+     */
+    private final CompletableFuture<QuestionBank> myQuestionBank =
+            CompletableFuture.supplyAsync(() -> new QuestionBank(QuestionFactory.getQuestions()), QUESTION_LOADER);
 
     /**
      * The view frame used to display the maze and other UI components.
@@ -34,7 +48,7 @@ public final class GameController implements GameListener {
     /**
      * The maze representation of the game.
      */
-    private Maze myMaze;
+    private PlayableMaze myMaze;
 
     /**
      * The player instance representing the user's character and stats.
@@ -79,27 +93,159 @@ public final class GameController implements GameListener {
         myFrame.setPreparation();
     }
 
+    /**
+     * Gets the questions of the game, which may still be loading.
+     *
+     * @return a future that completes once the questions are loaded.
+     */
+    public CompletableFuture<QuestionBank> getQuestionBank() {
+        return myQuestionBank;
+    }
+
+    /**
+     * Starts a game once the questions are loaded. The start button is disabled until the game
+     * is shown, so pressing it twice never builds two games. The maze is generated on the
+     * question loader thread, which can take a while for large mazes, and only the finished maze
+     * is handed to the event dispatch thread.
+     */
     @Override
     public void startGame(
             int theNumRows,
             int theNumCols,
             final String thePlayerName,
             final int thePlayerMaxHealth,
+            final int thePlayerMaxHints,
+            final long theSeed,
+            final QuestionBank.Filter theQuestionFilter
+    ) {
+        startGame(theBank -> buildMaze(theBank, theQuestionFilter, theNumRows, theNumCols, theSeed),
+                thePlayerName, thePlayerMaxHealth, thePlayerMaxHints);
+    }
+
+    /**
+     * Starts a game in an endless maze once the questions are loaded, the same way as
+     * {@link #startGame(int, int, String, int, int, long, QuestionBank.Filter)}.
+     */
+    @Override
+    public void startEndlessGame(
+            final String thePlayerName,
+            final int thePlayerMaxHealth,
+            final int thePlayerMaxHints,
+            final long theSeed,
+            final QuestionBank.Filter theQuestionFilter
+    ) {
+        startGame(theBank -> buildEndlessMaze(theBank, theQuestionFilter, theSeed),
+                thePlayerName, thePlayerMaxHealth, thePlayerMaxHints);
+    }
+
+    /**
+     * Starts a game with the maze made by the given builder, which is run on the question
+     * loader thread once the questions are loaded.
+     *
+     * @param theMazeBuilder builds the maze from the loaded questions, or gives null if no
+     *                       questions are allowed.
+     * @param thePlayerName the name of the player.
+     * @param thePlayerMaxHealth the maximum health of the player.
+     * @param thePlayerMaxHints the maximum number of hints the player can use.
+     */
+    private void startGame(
+            final Function<QuestionBank, PlayableMaze> theMazeBuilder,
+            final String thePlayerName,
+            final int thePlayerMaxHealth,
             final int thePlayerMaxHints
     ) {
-        List<Question> questions = new ArrayList<>(myQuestionList);
-        Collections.shuffle(questions);
-        myMaze = new Maze(questions, theNumRows, theNumCols);
-        myFrame.setMaze(myMaze);
-        myRoomsDiscovered = 0;
+        myFrame.setQuestionsLoading(true);
+        myQuestionBank.thenApplyAsync(theMazeBuilder, QUESTION_LOADER).whenCompleteAsync((theMaze, theError) -> {
+            myFrame.setQuestionsLoading(false);
+            if (theError != null || myQuestionBank.join().isEmpty()) {
+                if (theError != null) {
+                    theError.printStackTrace();
+                }
+                JOptionPane.showMessageDialog(null,
+                        "The questions could not be loaded, so there is no maze to explore!", "ERROR",
+                        JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            if (theMaze == null) {
+                JOptionPane.showMessageDialog(null,
+                        "There are no questions of that kind, please choose other questions.", "ERROR",
+                        JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            replaceMaze(theMaze);
+            myFrame.setMaze(myMaze);
+            myRoomsDiscovered = 0;
 
-        myPlayer = new Player(thePlayerName, thePlayerMaxHealth, thePlayerMaxHints);
-        myFrame.setPlayer(myPlayer);
+            myPlayer = new Player(thePlayerName, thePlayerMaxHealth, thePlayerMaxHints);
+            myFrame.setPlayer(myPlayer);
+        }, SwingUtilities::invokeLater);
+    }
+
+    /**
+     * Builds the maze of a new game, run on the question loader thread.
+     *
+     * @param theBank the loaded questions.
+     * @param theQuestionFilter the filter choosing which questions the maze asks.
+     * @param theNumRows the number of rows of the maze.
+     * @param theNumCols the number of columns of the maze.
+     * @param theSeed the seed the maze and its questions are built from.
+     * @return the maze, or null if no questions are allowed by the filter.
+     */
+    private static Maze buildMaze(
+            final QuestionBank theBank,
+            final QuestionBank.Filter theQuestionFilter,
+            final int theNumRows,
+            final int theNumCols,
+            final long theSeed
+    ) {
+        if (theBank.select(theQuestionFilter).isEmpty()) {
+            return null;
+        }
+        QuestionSampler questions = new QuestionSampler(theBank, theQuestionFilter, new Random(theSeed).nextLong());
+        return new Maze(questions, theNumRows, theNumCols, new RecursiveBacktrackerGenerator(), theSeed);
+    }
+
+    /**
+     * Builds the endless maze of a new game, run on the question loader thread.
+     *
+     * @param theBank the loaded questions.
+     * @param theQuestionFilter the filter choosing which questions the maze asks.
+     * @param theSeed the seed the maze and its questions are built from.
+     * @return the maze, or null if no questions are allowed by the filter.
+     */
+    private static EndlessMaze buildEndlessMaze(
+            final QuestionBank theBank,
+            final QuestionBank.Filter theQuestionFilter,
+            final long theSeed
+    ) {
+        if (theBank.select(theQuestionFilter).isEmpty()) {
+            return null;
+        }
+        QuestionSampler questions = new QuestionSampler(theBank, theQuestionFilter, new Random(theSeed).nextLong());
+        return new EndlessMaze(questions, theSeed);
+    }
+
+    /**
+     * Replaces the maze being played, closing an endless maze so its spill files are deleted.
+     *
+     * @param theMaze the new maze.
+     */
+    private void replaceMaze(final PlayableMaze theMaze) {
+        if (myMaze instanceof EndlessMaze endlessMaze) {
+            endlessMaze.close();
+        }
+        myMaze = theMaze;
     }
 
     @Override
     public void saveGame() {
-        SerialWrapper wrapper = new SerialWrapper(myPlayer, myMaze);
+        if (!(myMaze instanceof Maze maze)) {
+            JOptionPane.showMessageDialog(null,
+                    "An endless maze cannot be saved, it only lasts as long as the game.", "ERROR",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        SerialWrapper wrapper = new SerialWrapper(myPlayer, maze);
         FileNameExtensionFilter filter = new FileNameExtensionFilter("Save Files", "ser");
         myFileChooser.setFileFilter(filter);
         final int result = myFileChooser.showSaveDialog(null);
@@ -152,16 +298,39 @@ public final class GameController implements GameListener {
                 c.printStackTrace();
             }
             if (wrapper != null) {
-                myMaze = wrapper.getMaze();
-                myPlayer = wrapper.getPlayer();
-                myFrame.setMaze(myMaze);
-                myFrame.setPlayer(myPlayer);
+                showLoadedGame(wrapper.getMaze(), wrapper.getPlayer());
                 success = true;
             }
         }
         return success;
     }
 
+    /**
+     * Shows a loaded game once the questions are loaded, since a saved maze does not hold the
+     * question bank its rooms keep drawing from.
+     *
+     * @param theMaze the loaded maze.
+     * @param thePlayer the loaded player.
+     */
+    private void showLoadedGame(final Maze theMaze, final Player thePlayer) {
+        myQuestionBank.whenCompleteAsync((theBank, theError) -> {
+            if (theError != null) {
+                theError.printStackTrace();
+            }
+            if (theBank == null || theBank.isEmpty()) {
+                JOptionPane.showMessageDialog(null,
+                        "The questions could not be loaded, so the saved maze cannot be explored!", "ERROR",
+                        JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            theMaze.attachQuestions(theBank);
+            replaceMaze(theMaze);
+            myPlayer = thePlayer;
+            myFrame.setMaze(myMaze);
+            myFrame.setPlayer(myPlayer);
+        }, SwingUtilities::invokeLater);
+    }
+
     @Override
     public boolean checkAnswer(final String theAnswer) {
         boolean correct;
@@ -169,6 +338,7 @@ public final class GameController implements GameListener {
         correct = selectedRoom.checkAnswer(theAnswer);
 
         if (correct) {
+            myMaze.updateVisibilityAround(selectedRoom);
             myPlayer.setRoomsDiscovered(++myRoomsDiscovered);
             try {
                 myFrame.playSoundEffect(true);
@@ -177,7 +347,7 @@ public final class GameController implements GameListener {
             }
 
             if (selectedRoom.isEndpoint()) {
-                myFrame.setResult(true, myPlayer.getPlayerStatistics());
+                myFrame.setResult(true, getGameStatistics());
                 myRoomsDiscovered = 0;
                 return true;
             }
@@ -192,7 +362,7 @@ public final class GameController implements GameListener {
         }
 
         if (myPlayer.getHealth() == 0) {
-            myFrame.setResult(false, myPlayer.getPlayerStatistics());
+            myFrame.setResult(false, getGameStatistics());
         } else {
             myFrame.setMaze(myMaze);
         }
@@ -228,16 +398,44 @@ public final class GameController implements GameListener {
 
     @Override
     public void useHint() {
+        Room hintedRoom = myMaze.getCurrentlySelectedRoom();
         if (myDebugSelected) {
-            checkAnswer(myMaze.getCurrentlySelectedRoom().getQuestion().getAnswer());
+            checkAnswer(hintedRoom.getQuestion().getAnswer());
         } else {
             if (myPlayer.getHints() > 0) {
                 myPlayer.setHints(myPlayer.getHints() - 1);
                 myFrame.setPlayer(myPlayer);
-                checkAnswer(myMaze.getCurrentlySelectedRoom().getQuestion().getAnswer());
+                checkAnswer(hintedRoom.getQuestion().getAnswer());
             }
             myFrame.setHintEnabled(false);
         }
+        if (!hintedRoom.isEndpoint()) {
+            highlightNextRoom();
+        }
+    }
+
+    /**
+     * Selects the next room to answer on the shortest route to the end,
+     * so the player can see which way to go after a hint.
+     */
+    private void highlightNextRoom() {
+        Room nextRoom = myMaze.getHintRoom();
+        if (nextRoom != null && myPlayer.getHealth() > 0) {
+            onRoomClicked(nextRoom);
+        }
+    }
+
+    /**
+     * Gets the statistics shown at the end of a game: the player statistics and the maze seed,
+     * so the same maze can be played again.
+     *
+     * @return the statistics of the game.
+     */
+    private String[] getGameStatistics() {
+        String[] playerStatistics = myPlayer.getPlayerStatistics();
+        String[] statistics = Arrays.copyOf(playerStatistics, playerStatistics.length + 1);
+        statistics[playerStatistics.length] = "Maze seed: " + myMaze.getSeed();
+        return statistics;
     }
 
     @Override
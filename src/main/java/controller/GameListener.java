@@ -1,6 +1,7 @@
 
 package controller;
 
+import model.QuestionBank;
 import model.Room;
 
 /**
@@ -27,13 +28,35 @@ public interface GameListener {
     * @param thePlayerName   the name of the player.
     * @param thePlayerMaxHealth the maximum health of the player.
     * @param thePlayerMaxHints  the maximum number of hints the player can use.
+    * @param theSeed         the seed the maze is built from, the same seed gives the same maze.
+    * @param theQuestionFilter the filter choosing which questions the maze asks.
     */
    void startGame(
            final int theNumRows,
            final int theNumCols,
            final String thePlayerName,
            final int thePlayerMaxHealth,
-           final int thePlayerMaxHints
+           final int thePlayerMaxHints,
+           final long theSeed,
+           final QuestionBank.Filter theQuestionFilter
+   );
+
+   /**
+    * Initializes and starts a game in a maze without an edge, which goes on until the player
+    * runs out of health.
+    *
+    * @param thePlayerName   the name of the player.
+    * @param thePlayerMaxHealth the maximum health of the player.
+    * @param thePlayerMaxHints  the maximum number of hints the player can use.
+    * @param theSeed         the seed the maze is built from, the same seed gives the same maze.
+    * @param theQuestionFilter the filter choosing which questions the maze asks.
+    */
+   void startEndlessGame(
+           final String thePlayerName,
+           final int thePlayerMaxHealth,
+           final int thePlayerMaxHints,
+           final long theSeed,
+           final QuestionBank.Filter theQuestionFilter
    );
 
    /**
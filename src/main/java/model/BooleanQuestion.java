@@ -1,5 +1,8 @@
 package model;
 
+import model.QuestionEnums.Difficulty;
+import model.QuestionEnums.QuestionType;
+
 /**
  * Represents a boolean question that can be asked.
  *
@@ -19,10 +22,28 @@ public final class BooleanQuestion extends Question {
      * @param theAnswer the correct answer to the question
      */
     public BooleanQuestion(final String thePrompt, final boolean theAnswer) {
-        super(thePrompt);
+        this(thePrompt, theAnswer, DEFAULT_DIFFICULTY, DEFAULT_CATEGORY);
+    }
+
+    /**
+     * Constructs a boolean choice question with a difficulty and a category.
+     *
+     * @param thePrompt the prompt of the question
+     * @param theAnswer the correct answer to the question
+     * @param theDifficulty the difficulty of the question
+     * @param theCategory the category tag of the question
+     */
+    public BooleanQuestion(final String thePrompt, final boolean theAnswer,
+                           final Difficulty theDifficulty, final String theCategory) {
+        super(thePrompt, theDifficulty, theCategory);
         myAnswer = theAnswer;
     }
 
+    @Override
+    public QuestionType getType() {
+        return QuestionType.BOOLEAN;
+    }
+
     @Override
     public boolean checkAnswer(String theAnswer) {
         return myAnswer == Boolean.parseBoolean(theAnswer);
@@ -0,0 +1,216 @@
+package model;
+
+import java.io.*;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+/**
+ * Keeps the most recently used chunks of an endless maze in memory.
+ * When too many chunks are loaded the least recently used one is dropped. A chunk that was
+ * never changed can be generated again exactly from its key, so it is simply forgotten, while a
+ * changed chunk is written to a spill file and read back the next time it is needed. A spill file
+ * is deleted as soon as its chunk is read back, so it only exists while the chunk is out of
+ * memory, and {@link #close()} deletes the ones that are left.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+final class ChunkCache implements AutoCloseable {
+
+    /** The start of the name of every spill file. */
+    private static final String SPILL_PREFIX = "chunk_";
+
+    /** The end of the name of every spill file. */
+    private static final String SPILL_SUFFIX = ".ser";
+
+    /** The pattern matching the names of the spill files in the spill directory. */
+    private static final String SPILL_PATTERN = SPILL_PREFIX + "*" + SPILL_SUFFIX;
+
+    /** The loaded chunks by key, least recently used first. */
+    private final LinkedHashMap<Long, RoomGrid> myLoaded;
+
+    /** The keys of loaded chunks that differ from a freshly generated chunk. */
+    private final Set<Long> myTouched;
+
+    /** The keys of chunks that are out of memory and have a spill file. */
+    private final Set<Long> mySpilled;
+
+    /** The most chunks that are kept in memory. */
+    private final int myCapacity;
+
+    /** The directory spill files are written to. */
+    private final Path mySpillDirectory;
+
+    /** Generates the chunk of a key. */
+    private final LongFunction<RoomGrid> myFactory;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param theCapacity the most chunks that are kept in memory, at least 2.
+     * @param theSpillDirectory the directory spill files are written to.
+     * @param theFactory generates the chunk of a key, always the same chunk for the same key.
+     */
+    ChunkCache(final int theCapacity, final Path theSpillDirectory, final LongFunction<RoomGrid> theFactory) {
+        if (theCapacity < 2) {
+            throw new IllegalArgumentException("At least two chunks have to fit in the cache");
+        }
+        myLoaded = new LinkedHashMap<>(16, 0.75f, true);
+        myTouched = new HashSet<>();
+        mySpilled = new HashSet<>();
+        myCapacity = theCapacity;
+        mySpillDirectory = theSpillDirectory;
+        myFactory = theFactory;
+    }
+
+    /**
+     * Gets the chunk of a key, loading or generating it if it is not in memory.
+     *
+     * @param theKey the key of the chunk.
+     * @return the chunk.
+     */
+    RoomGrid get(final long theKey) {
+        RoomGrid chunk = myLoaded.get(theKey);
+        if (chunk == null) {
+            if (mySpilled.remove(theKey)) {
+                // the chunk in memory is now the only copy, it is spilled again when dropped
+                chunk = readSpill(theKey);
+                myTouched.add(theKey);
+            } else {
+                chunk = myFactory.apply(theKey);
+            }
+            myLoaded.put(theKey, chunk);
+            evictOverflow();
+        }
+        return chunk;
+    }
+
+    /**
+     * Marks a loaded chunk as changed, so it is spilled instead of dropped.
+     *
+     * @param theKey the key of the chunk.
+     */
+    void markTouched(final long theKey) {
+        myTouched.add(theKey);
+    }
+
+    /**
+     * Gets the key of a chunk that is in memory.
+     *
+     * @param theChunk the chunk.
+     * @return the key of the chunk.
+     * @throws IllegalArgumentException if the chunk is not in memory.
+     */
+    long keyOf(final RoomGrid theChunk) {
+        for (final Map.Entry<Long, RoomGrid> entry : myLoaded.entrySet()) {
+            if (entry.getValue() == theChunk) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalArgumentException("The chunk is not loaded");
+    }
+
+    /**
+     * Gets the number of chunks in memory.
+     *
+     * @return the number of loaded chunks.
+     */
+    int getLoadedCount() {
+        return myLoaded.size();
+    }
+
+    /**
+     * Gets the number of chunks that have a spill file.
+     *
+     * @return the number of spilled chunks.
+     */
+    int getSpilledCount() {
+        return mySpilled.size();
+    }
+
+    /**
+     * Deletes every spill file. The files are found by listing the spill directory rather than
+     * through the cache, so this can be run from a shutdown hook while the game is still using it.
+     */
+    @Override
+    public void close() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(mySpillDirectory, SPILL_PATTERN)) {
+            for (final Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (final IOException theException) {
+            System.out.println("Problem with spill file deletion: " + theException);
+        }
+        mySpilled.clear();
+    }
+
+    /**
+     * Drops the least recently used chunks until the cache is within its capacity.
+     */
+    private void evictOverflow() {
+        final Iterator<Map.Entry<Long, RoomGrid>> eldest = myLoaded.entrySet().iterator();
+        while (myLoaded.size() > myCapacity) {
+            final Map.Entry<Long, RoomGrid> entry = eldest.next();
+            final long key = entry.getKey();
+            if (myTouched.remove(key)) {
+                writeSpill(key, entry.getValue());
+                mySpilled.add(key);
+            }
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Gets the spill file of a chunk.
+     *
+     * @param theKey the key of the chunk.
+     * @return the path of the spill file.
+     */
+    private Path spillFile(final long theKey) {
+        return mySpillDirectory.resolve(SPILL_PREFIX + Long.toHexString(theKey) + SPILL_SUFFIX);
+    }
+
+    /**
+     * Writes a chunk to its spill file.
+     *
+     * @param theKey the key of the chunk.
+     * @param theChunk the chunk.
+     */
+    private void writeSpill(final long theKey, final RoomGrid theChunk) {
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(spillFile(theKey))))) {
+            out.writeObject(theChunk);
+        } catch (final IOException theException) {
+            throw new UncheckedIOException(theException);
+        }
+    }
+
+    /**
+     * Reads a chunk back from its spill file and deletes the file.
+     *
+     * @param theKey the key of the chunk.
+     * @return the chunk.
+     */
+    private RoomGrid readSpill(final long theKey) {
+        final Path file = spillFile(theKey);
+        try {
+            final RoomGrid chunk;
+            try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                chunk = (RoomGrid) in.readObject();
+            }
+            Files.delete(file);
+            return chunk;
+        } catch (final IOException theException) {
+            throw new UncheckedIOException(theException);
+        } catch (final ClassNotFoundException theException) {
+            throw new IllegalStateException(theException);
+        }
+    }
+}
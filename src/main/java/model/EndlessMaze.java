@@ -0,0 +1,682 @@
+package model;
+
+import model.RoomEnums.DoorDirection;
+import model.RoomEnums.RoomInfo;
+import model.RoomEnums.Visibility;
+import model.generation.MazeGenerator;
+import model.generation.RecursiveBacktrackerGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+import static model.RoomEnums.ROOM_INFOS;
+import static model.RoomEnums.ROOM_INFO_FILL_START;
+
+/**
+ * A maze without an edge, made of square chunks that are only generated once the player
+ * reaches them. Every chunk is a maze of its own carved from the seed and the chunk position,
+ * with one doorway through each side into the neighbouring chunk, so any chunk can be thrown
+ * away and generated again exactly. Rooms are addressed by row and column, which can be
+ * negative, and the player starts in room (0, 0).
+ * <p>
+ * Rooms are only given a question once they become LOCKED, drawn from a {@link QuestionSource},
+ * and that change keeps their chunk from being thrown away. As a {@link PlayableMaze} the views
+ * see a window of WINDOW_SIZE by WINDOW_SIZE rooms centred on the start, far more rooms than a
+ * player can ever answer, so the row-major index of a room still fits in an int.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class EndlessMaze implements PlayableMaze, AutoCloseable {
+
+    /** The number of rows and columns in a chunk by default. */
+    public static final int DEFAULT_CHUNK_SIZE = 32;
+
+    /** The number of chunks kept in memory by default. */
+    public static final int DEFAULT_CACHED_CHUNKS = 64;
+
+    /** The number of rows and columns of the window the views see. */
+    public static final int WINDOW_SIZE = 1 << 15;
+
+    /** The row and column in the window of room (0, 0). */
+    private static final int WINDOW_ORIGIN = WINDOW_SIZE / 2;
+
+    /** The most changed rooms that are listed before views are told to redraw everything. */
+    private static final int MAX_DIRTY_CELLS = 1024;
+
+    /** The axis of the doorway on the east side of a chunk. */
+    private static final int EAST_DOORWAY = 0;
+
+    /** The axis of the doorway on the south side of a chunk. */
+    private static final int SOUTH_DOORWAY = 1;
+
+    /** The seed of the whole maze. */
+    private final long mySeed;
+
+    /** The number of rows and columns in a chunk. */
+    private final int myChunkSize;
+
+    /** The generator that carves each chunk. */
+    private final MazeGenerator myGenerator;
+
+    /** The source rooms draw their question from once they become LOCKED. */
+    private final QuestionSource myQuestionSource;
+
+    /** The chunks in memory. */
+    private final ChunkCache myChunks;
+
+    /** The directory the spill files are written to. */
+    private final Path mySpillDirectory;
+
+    /** Whether the spill directory was made by this maze, and is deleted with its files. */
+    private final boolean myOwnsSpillDirectory;
+
+    /** Deletes the spill files when the program exits before the maze is closed. */
+    private final Thread myShutdownHook;
+
+    /** The number of rooms that have been made visible. */
+    private int myRoomsDiscovered;
+
+    /** The window index of the room that is selected, or -1 if there is none. */
+    private int mySelectedIndex = -1;
+
+    /** The window indices of the rooms changed since the views last asked, or null for all. */
+    private int[] myDirtyCells;
+
+    /** The number of entries of myDirtyCells in use. */
+    private int myDirtyCount;
+
+    /**
+     * Creates an endless maze with the default chunk size, cache size and generator, spilling
+     * changed chunks to a temporary directory that is deleted when the maze is closed.
+     *
+     * @param theQuestionSource the source of the questions for the rooms.
+     * @param theSeed the seed of the maze.
+     */
+    public EndlessMaze(final QuestionSource theQuestionSource, final long theSeed) {
+        this(theQuestionSource, theSeed, new RecursiveBacktrackerGenerator(), DEFAULT_CHUNK_SIZE,
+                DEFAULT_CACHED_CHUNKS, createSpillDirectory(), true);
+    }
+
+    /**
+     * Creates an endless maze with the default chunk size, cache size and generator.
+     *
+     * @param theQuestionSource the source of the questions for the rooms.
+     * @param theSeed the seed of the maze.
+     * @param theSpillDirectory the directory changed chunks are written to when they are dropped.
+     */
+    public EndlessMaze(final QuestionSource theQuestionSource, final long theSeed, final Path theSpillDirectory) {
+        this(theQuestionSource, theSeed, new RecursiveBacktrackerGenerator(), DEFAULT_CHUNK_SIZE,
+                DEFAULT_CACHED_CHUNKS, theSpillDirectory);
+    }
+
+    /**
+     * Creates an endless maze.
+     *
+     * @param theQuestionSource the source of the questions for the rooms.
+     * @param theSeed the seed of the maze.
+     * @param theGenerator the generator that carves each chunk.
+     * @param theChunkSize the number of rows and columns in a chunk.
+     * @param theCachedChunks the number of chunks kept in memory, at least 2.
+     * @param theSpillDirectory the directory changed chunks are written to when they are dropped.
+     */
+    public EndlessMaze(final QuestionSource theQuestionSource, final long theSeed, final MazeGenerator theGenerator,
+                       final int theChunkSize, final int theCachedChunks, final Path theSpillDirectory) {
+        this(theQuestionSource, theSeed, theGenerator, theChunkSize, theCachedChunks, theSpillDirectory, false);
+    }
+
+    /**
+     * Creates an endless maze.
+     *
+     * @param theQuestionSource the source of the questions for the rooms.
+     * @param theSeed the seed of the maze.
+     * @param theGenerator the generator that carves each chunk.
+     * @param theChunkSize the number of rows and columns in a chunk.
+     * @param theCachedChunks the number of chunks kept in memory, at least 2.
+     * @param theSpillDirectory the directory changed chunks are written to when they are dropped.
+     * @param theOwnsSpillDirectory whether the directory is deleted when the maze is closed.
+     */
+    private EndlessMaze(final QuestionSource theQuestionSource, final long theSeed, final MazeGenerator theGenerator,
+                        final int theChunkSize, final int theCachedChunks, final Path theSpillDirectory,
+                        final boolean theOwnsSpillDirectory) {
+        mySeed = theSeed;
+        myChunkSize = theChunkSize;
+        myGenerator = theGenerator;
+        myQuestionSource = theQuestionSource;
+        mySpillDirectory = theSpillDirectory;
+        myOwnsSpillDirectory = theOwnsSpillDirectory;
+        myChunks = new ChunkCache(theCachedChunks, theSpillDirectory, this::generateChunk);
+        myShutdownHook = new Thread(this::deleteSpillFiles, "Endless maze cleanup");
+        Runtime.getRuntime().addShutdownHook(myShutdownHook);
+
+        reveal(0, 0);
+        // the start is selected so the views open on it
+        mySelectedIndex = windowIndex(0, 0);
+    }
+
+    /**
+     * Gets the visibility of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the visibility.
+     */
+    public Visibility getVisibility(final int theRow, final int theCol) {
+        return chunkOf(theRow, theCol).getVisibility(cellOf(theRow, theCol));
+    }
+
+    /**
+     * Gets the fill that is shown once a room is visible.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the fill.
+     */
+    public RoomInfo getFill(final int theRow, final int theCol) {
+        return chunkOf(theRow, theCol).getFill(cellOf(theRow, theCol));
+    }
+
+    /**
+     * Gets the question of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the question, or null if the room has not been LOCKED yet.
+     */
+    public Question getQuestion(final int theRow, final int theCol) {
+        return chunkOf(theRow, theCol).getQuestion(cellOf(theRow, theCol));
+    }
+
+    /**
+     * Gets whether the door of a room in the given direction is open.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theNESW the direction of the door.
+     * @return whether the door is open.
+     */
+    public boolean isDoorOpen(final int theRow, final int theCol, final DoorDirection theNESW) {
+        return chunkOf(theRow, theCol).isDoorOpen(cellOf(theRow, theCol), theNESW);
+    }
+
+    /**
+     * Gets whether there is a passage from a room to its neighbour in the given direction,
+     * which needs the doors on both sides to be open. Passages may lead into another chunk.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theNESW the direction of the passage.
+     * @return whether there is a passage.
+     */
+    public boolean hasPassage(final int theRow, final int theCol, final DoorDirection theNESW) {
+        if (!isDoorOpen(theRow, theCol, theNESW)) {
+            return false;
+        }
+        final int row = theRow + rowStep(theNESW);
+        final int col = theCol + colStep(theNESW);
+        return isDoorOpen(row, col, RoomEnums.inverseDoorDirection(theNESW));
+    }
+
+    /**
+     * Answers the question of a LOCKED room. A correct answer makes the room visible and locks
+     * the rooms behind its passages, generating the chunks they are in if needed.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theAnswer the answer given.
+     * @return whether the answer was correct.
+     */
+    public boolean checkAnswer(final int theRow, final int theCol, final String theAnswer) {
+        if (getVisibility(theRow, theCol) != Visibility.LOCKED
+                || !getQuestion(theRow, theCol).checkAnswer(theAnswer)) {
+            return false;
+        }
+        reveal(theRow, theCol);
+        return true;
+    }
+
+    /**
+     * Gets the number of rooms that have been made visible, including the starting room.
+     *
+     * @return the number of visible rooms.
+     */
+    public int getRoomsDiscovered() {
+        return myRoomsDiscovered;
+    }
+
+    /**
+     * Gets the number of chunks that are in memory.
+     *
+     * @return the number of loaded chunks.
+     */
+    public int getLoadedChunkCount() {
+        return myChunks.getLoadedCount();
+    }
+
+    /**
+     * Gets the number of changed chunks that are out of memory and written to disk.
+     *
+     * @return the number of spilled chunks.
+     */
+    public int getSpilledChunkCount() {
+        return myChunks.getSpilledCount();
+    }
+
+    @Override
+    public long getSeed() {
+        return mySeed;
+    }
+
+    /**
+     * Gets the number of rows and columns in a chunk.
+     *
+     * @return the chunk size.
+     */
+    public int getChunkSize() {
+        return myChunkSize;
+    }
+
+    @Override
+    public int getRows() {
+        return WINDOW_SIZE;
+    }
+
+    @Override
+    public int getCols() {
+        return WINDOW_SIZE;
+    }
+
+    @Override
+    public int getRoomIndex(final int theRow, final int theCol) {
+        return theRow * WINDOW_SIZE + theCol;
+    }
+
+    /**
+     * Gets a room by its row and column in the window. The room is a view onto its chunk, so it
+     * should not be kept once other parts of the maze have been looked at.
+     *
+     * @param theRow the row of the room in the window.
+     * @param theCol the column of the room in the window.
+     * @return the room, or null if it is outside the window.
+     */
+    @Override
+    public Room getRoom(final int theRow, final int theCol) {
+        if (theRow < 0 || theRow >= WINDOW_SIZE || theCol < 0 || theCol >= WINDOW_SIZE) {
+            return null;
+        }
+        final int row = theRow - WINDOW_ORIGIN;
+        final int col = theCol - WINDOW_ORIGIN;
+        return new Room(chunkOf(row, col), cellOf(row, col));
+    }
+
+    @Override
+    public RoomInfo getShownFill(final int theIndex) {
+        final int row = rowOf(theIndex);
+        final int col = colOf(theIndex);
+        return chunkOf(row, col).getShownFill(cellOf(row, col));
+    }
+
+    @Override
+    public boolean isDoorOpen(final int theIndex, final DoorDirection theNESW) {
+        return isDoorOpen(rowOf(theIndex), colOf(theIndex), theNESW);
+    }
+
+    @Override
+    public boolean isHighlighted(final int theIndex) {
+        final int row = rowOf(theIndex);
+        final int col = colOf(theIndex);
+        return chunkOf(row, col).isHighlighted(cellOf(row, col));
+    }
+
+    @Override
+    public Room getCurrentlySelectedRoom() {
+        return mySelectedIndex < 0 ? null
+                : getRoom(mySelectedIndex / WINDOW_SIZE, mySelectedIndex % WINDOW_SIZE);
+    }
+
+    @Override
+    public int getSelectedRoomIndex() {
+        return mySelectedIndex;
+    }
+
+    /**
+     * Updates the selected room. The highlight of the rooms is set by the caller, so the chunks
+     * of the rooms that were and are selected are kept as changed.
+     *
+     * @param theSelectedRoom the room to select, or null to select none.
+     */
+    @Override
+    public void setSelectedRoom(final Room theSelectedRoom) {
+        if (mySelectedIndex >= 0) {
+            touch(rowOf(mySelectedIndex), colOf(mySelectedIndex));
+        }
+        mySelectedIndex = theSelectedRoom == null ? -1 : indexOf(theSelectedRoom);
+        if (mySelectedIndex >= 0) {
+            touch(rowOf(mySelectedIndex), colOf(mySelectedIndex));
+        }
+    }
+
+    @Override
+    public int[] updateVisibilityAround(final Room theRoom) {
+        final int index = indexOf(theRoom);
+        final int row = rowOf(index);
+        final int col = colOf(index);
+        final int[] changed = new int[DOOR_DIRECTIONS.length + 1];
+        int count = 0;
+        changed[count++] = index;
+        touch(row, col);
+        if (getVisibility(row, col) == Visibility.VISIBLE) {
+            myRoomsDiscovered++;
+            for (final DoorDirection direction : DOOR_DIRECTIONS) {
+                if (lockBehind(row, col, direction) && isInWindow(row + rowStep(direction), col + colStep(direction))) {
+                    changed[count++] = windowIndex(row + rowStep(direction), col + colStep(direction));
+                }
+            }
+        }
+        return Arrays.copyOf(changed, count);
+    }
+
+    /**
+     * An endless maze has no end to lead the player to, so there is no room to suggest.
+     *
+     * @return null.
+     */
+    @Override
+    public Room getHintRoom() {
+        return null;
+    }
+
+    @Override
+    public int[] takeDirtyCells() {
+        final int[] dirty = myDirtyCells == null ? null : Arrays.copyOf(myDirtyCells, myDirtyCount);
+        myDirtyCells = new int[16];
+        myDirtyCount = 0;
+        return dirty;
+    }
+
+    /**
+     * Deletes the spill files and stops the maze from being cleaned up again when the program
+     * exits. The maze should not be used afterwards.
+     */
+    @Override
+    public void close() {
+        try {
+            Runtime.getRuntime().removeShutdownHook(myShutdownHook);
+        } catch (final IllegalStateException theException) {
+            // the program is already exiting, so the hook is running or has run
+        }
+        deleteSpillFiles();
+    }
+
+    /**
+     * Makes a room visible and locks the MYSTERY rooms behind its passages.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     */
+    private void reveal(final int theRow, final int theCol) {
+        setVisibility(theRow, theCol, Visibility.VISIBLE);
+        myRoomsDiscovered++;
+        for (final DoorDirection direction : DOOR_DIRECTIONS) {
+            lockBehind(theRow, theCol, direction);
+        }
+    }
+
+    /**
+     * Locks the room behind a passage if it is still a MYSTERY, and gives it its question.
+     *
+     * @param theRow the row of the visible room.
+     * @param theCol the column of the visible room.
+     * @param theNESW the direction of the passage.
+     * @return whether a room was locked.
+     */
+    private boolean lockBehind(final int theRow, final int theCol, final DoorDirection theNESW) {
+        final int row = theRow + rowStep(theNESW);
+        final int col = theCol + colStep(theNESW);
+        if (!hasPassage(theRow, theCol, theNESW) || getVisibility(row, col) != Visibility.MYSTERY) {
+            return false;
+        }
+        setVisibility(row, col, Visibility.LOCKED);
+        final RoomGrid chunk = chunkOf(row, col);
+        if (chunk.getQuestion(cellOf(row, col)) == null) {
+            chunk.setQuestion(cellOf(row, col), myQuestionSource.nextQuestion());
+        }
+        return true;
+    }
+
+    /**
+     * Sets the visibility of a room and marks its chunk as changed.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theVisibility the new visibility.
+     */
+    private void setVisibility(final int theRow, final int theCol, final Visibility theVisibility) {
+        chunkOf(theRow, theCol).setVisibility(cellOf(theRow, theCol), theVisibility);
+        touch(theRow, theCol);
+    }
+
+    /**
+     * Marks the chunk of a room as changed, so it is spilled instead of dropped, and lists the
+     * room as changed for the views.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     */
+    private void touch(final int theRow, final int theCol) {
+        myChunks.markTouched(chunkKey(Math.floorDiv(theRow, myChunkSize), Math.floorDiv(theCol, myChunkSize)));
+        if (myDirtyCells == null || !isInWindow(theRow, theCol)) {
+            return;
+        }
+        if (myDirtyCount == MAX_DIRTY_CELLS) {
+            myDirtyCells = null;
+            return;
+        }
+        if (myDirtyCount == myDirtyCells.length) {
+            myDirtyCells = Arrays.copyOf(myDirtyCells, myDirtyCount * 2);
+        }
+        myDirtyCells[myDirtyCount++] = windowIndex(theRow, theCol);
+    }
+
+    /**
+     * Gets the window index of a room handed out by this maze.
+     *
+     * @param theRoom the room.
+     * @return the index of the room in the window.
+     */
+    private int indexOf(final Room theRoom) {
+        final long key = myChunks.keyOf(theRoom.getGrid());
+        final int row = (int) (key >> 32) * myChunkSize + theRoom.getIndex() / myChunkSize;
+        final int col = (int) key * myChunkSize + theRoom.getIndex() % myChunkSize;
+        return windowIndex(row, col);
+    }
+
+    /**
+     * Gets the window index of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the index of the room in the window.
+     */
+    private static int windowIndex(final int theRow, final int theCol) {
+        return (theRow + WINDOW_ORIGIN) * WINDOW_SIZE + theCol + WINDOW_ORIGIN;
+    }
+
+    /**
+     * Gets whether a room is inside the window the views see.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return whether the room is in the window.
+     */
+    private static boolean isInWindow(final int theRow, final int theCol) {
+        return theRow >= -WINDOW_ORIGIN && theRow < WINDOW_ORIGIN && theCol >= -WINDOW_ORIGIN && theCol < WINDOW_ORIGIN;
+    }
+
+    /**
+     * Gets the row of a room from its window index.
+     *
+     * @param theIndex the index of the room in the window.
+     * @return the row of the room.
+     */
+    private static int rowOf(final int theIndex) {
+        return theIndex / WINDOW_SIZE - WINDOW_ORIGIN;
+    }
+
+    /**
+     * Gets the column of a room from its window index.
+     *
+     * @param theIndex the index of the room in the window.
+     * @return the column of the room.
+     */
+    private static int colOf(final int theIndex) {
+        return theIndex % WINDOW_SIZE - WINDOW_ORIGIN;
+    }
+
+    /**
+     * Deletes the spill files, and the spill directory if this maze made it.
+     */
+    private void deleteSpillFiles() {
+        myChunks.close();
+        if (myOwnsSpillDirectory) {
+            try {
+                Files.deleteIfExists(mySpillDirectory);
+            } catch (final IOException theException) {
+                System.out.println("Problem with spill directory deletion: " + theException);
+            }
+        }
+    }
+
+    /**
+     * Makes a temporary directory for spill files.
+     *
+     * @return the path of the directory.
+     */
+    private static Path createSpillDirectory() {
+        try {
+            return Files.createTempDirectory("endless-maze");
+        } catch (final IOException theException) {
+            throw new RuntimeException("Problem with spill directory creation: " + theException);
+        }
+    }
+
+    /**
+     * Gets the chunk a room is in.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the chunk.
+     */
+    private RoomGrid chunkOf(final int theRow, final int theCol) {
+        return myChunks.get(chunkKey(Math.floorDiv(theRow, myChunkSize), Math.floorDiv(theCol, myChunkSize)));
+    }
+
+    /**
+     * Gets the index of a room inside its chunk.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the index in the chunk.
+     */
+    private int cellOf(final int theRow, final int theCol) {
+        return Math.floorMod(theCol, myChunkSize) + Math.floorMod(theRow, myChunkSize) * myChunkSize;
+    }
+
+    /**
+     * Generates a chunk from the seed and its position, always giving the same chunk. The rooms
+     * get no questions here, they draw one once they are LOCKED.
+     *
+     * @param theKey the key of the chunk.
+     * @return the chunk.
+     */
+    private RoomGrid generateChunk(final long theKey) {
+        final int chunkRow = (int) (theKey >> 32);
+        final int chunkCol = (int) theKey;
+        final int last = myChunkSize - 1;
+        final RoomGrid chunk = new RoomGrid(myChunkSize, myChunkSize);
+        final SplittableRandom random = new SplittableRandom(hash(mySeed, theKey));
+        final SplittableRandom fillRandom = random.split();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.setFill(i, ROOM_INFOS[fillRandom.nextInt(ROOM_INFOS.length - ROOM_INFO_FILL_START)
+                    + ROOM_INFO_FILL_START]);
+        }
+        myGenerator.generate(chunk, random.split());
+
+        // each doorway is picked from the shared side, so both chunks agree on where it is
+        chunk.setDoor(chunk.indexOf(doorway(chunkRow, chunkCol, EAST_DOORWAY), last), DoorDirection.EAST, true);
+        chunk.setDoor(chunk.indexOf(doorway(chunkRow, chunkCol - 1, EAST_DOORWAY), 0), DoorDirection.WEST, true);
+        chunk.setDoor(chunk.indexOf(last, doorway(chunkRow, chunkCol, SOUTH_DOORWAY)), DoorDirection.SOUTH, true);
+        chunk.setDoor(chunk.indexOf(0, doorway(chunkRow - 1, chunkCol, SOUTH_DOORWAY)), DoorDirection.NORTH, true);
+        return chunk;
+    }
+
+    /**
+     * Gets the position of the doorway on the east or south side of a chunk.
+     *
+     * @param theChunkRow the row of the chunk.
+     * @param theChunkCol the column of the chunk.
+     * @param theSide EAST_DOORWAY or SOUTH_DOORWAY.
+     * @return the row of an east doorway or the column of a south doorway, inside the chunk.
+     */
+    private int doorway(final int theChunkRow, final int theChunkCol, final int theSide) {
+        return Math.floorMod(hash(hash(mySeed, chunkKey(theChunkRow, theChunkCol)), theSide), myChunkSize);
+    }
+
+    /**
+     * Packs the position of a chunk into a single key.
+     *
+     * @param theChunkRow the row of the chunk.
+     * @param theChunkCol the column of the chunk.
+     * @return the key.
+     */
+    private static long chunkKey(final int theChunkRow, final int theChunkCol) {
+        return ((long) theChunkRow << 32) | (theChunkCol & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Mixes two values into a well spread hash, using the SplitMix64 finalizer.
+     *
+     * @param theFirst the first value.
+     * @param theSecond the second value.
+     * @return the hash.
+     */
+    private static long hash(final long theFirst, final long theSecond) {
+        long z = theFirst + theSecond * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets the change in row when moving in a direction.
+     *
+     * @param theNESW the direction.
+     * @return the change in row.
+     */
+    private static int rowStep(final DoorDirection theNESW) {
+        return switch (theNESW) {
+            case NORTH -> -1;
+            case SOUTH -> 1;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Gets the change in column when moving in a direction.
+     *
+     * @param theNESW the direction.
+     * @return the change in column.
+     */
+    private static int colStep(final DoorDirection theNESW) {
+        return switch (theNESW) {
+            case EAST -> 1;
+            case WEST -> -1;
+            default -> 0;
+        };
+    }
+}
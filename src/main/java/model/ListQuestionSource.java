@@ -0,0 +1,57 @@
+package model;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * Hands out the questions of a list in order. Once every question has been handed out it starts
+ * again from the first one, so a maze can hold more rooms than the list has questions. The list
+ * is not saved, only the position of the next question.
+ *
+ * @author Jacob Klymenko
+ * @version 1.0
+ */
+public final class ListQuestionSource implements QuestionSource {
+
+    /** The serialVersionUID for this object. */
+    @Serial
+    private static final long serialVersionUID = 2L;
+
+    /** The questions to hand out, null after loading until they are attached again. */
+    private transient List<Question> myQuestions;
+
+    /** The position of the next question to hand out. */
+    private int myNext;
+
+    /**
+     * Creates a source over a list of questions. The list is not copied, so it should not be
+     * changed while the source is in use.
+     *
+     * @param theQuestions the questions to hand out, at least one.
+     */
+    public ListQuestionSource(final List<Question> theQuestions) {
+        if (theQuestions.isEmpty()) {
+            throw new IllegalArgumentException("A question source needs at least one question");
+        }
+        myQuestions = theQuestions;
+    }
+
+    @Override
+    public Question nextQuestion() {
+        if (myQuestions == null) {
+            throw new IllegalStateException("The questions have to be attached after loading");
+        }
+        final Question question = myQuestions.get(myNext);
+        myNext = (myNext + 1) % myQuestions.size();
+        return question;
+    }
+
+    @Override
+    public void attach(final QuestionBank theBank) {
+        if (theBank.isEmpty()) {
+            throw new IllegalArgumentException("A question source needs at least one question");
+        }
+        myQuestions = theBank.getQuestions();
+        myNext %= myQuestions.size();
+    }
+}
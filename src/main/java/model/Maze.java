@@ -3,7 +3,17 @@ package model;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.*;
+import java.util.random.RandomGenerator;
 import model.RoomEnums.*;
+import model.generation.EndpointPlacer;
+import model.generation.MazeGenerator;
+import model.generation.RecursiveBacktrackerGenerator;
+import model.solver.BidirectionalSolver;
+import model.solver.MazeSolver;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+import static model.RoomEnums.ROOM_INFOS;
+import static model.RoomEnums.ROOM_INFO_FILL_START;
 
 /**
  * Represents a maze that holds questions.
@@ -13,102 +23,183 @@ import model.RoomEnums.*;
  * @author Jacob Klymenko
  * @version 1.0
  */
-public final class Maze implements Serializable {
+public final class Maze implements PlayableMaze, Serializable {
 
     /** The serialVersionUID for this object. */
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 4L;
+
+    /** The solver used to check mazes and find the route for hints. */
+    private static final MazeSolver SOLVER = new BidirectionalSolver();
+
+    /** The seed this maze was built from. */
+    private final long mySeed;
 
-    /** The 2D array of rooms in the maze. */
-    private final Room[][] myRooms;
+    /** The source rooms draw their question from once they become LOCKED. */
+    private final QuestionSource myQuestionSource;
+
+    /** The grid that holds the state of every room in the maze. */
+    private final RoomGrid myGrid;
 
     /** The position of the starting row and starting col. */
     private int[] myStartingRowCol;
 
-    /** The current room that is highlighted. */
-    private Room mySelectedRoom = null;
+    /** The index of the ending room. */
+    private int myEndingIndex;
+
+    /** The index of the room that is highlighted, or -1 if there is none. */
+    private int mySelectedIndex = -1;
 
     /**
      * Creates a maze with the set parameters.
+     * The corridors are carved with a recursive backtracker from a random seed.
      *
      * @param theQuestions the questions to be entered into rooms.
      * @param theRows      the number of rows in the maze.
      * @param theColumns   the number of columns in the maze.
      */
     public Maze(final List<Question> theQuestions, final int theRows, final int theColumns) {
+        this(theQuestions, theRows, theColumns, new RecursiveBacktrackerGenerator());
+    }
 
-        Room[][] theRooms = new Room[theRows][theColumns];
-        for (int i = 0; i < theRows; i++) {
-            for (int j = 0; j < theColumns; j++) {
-                Question question = theQuestions.removeFirst();
-                Room room = new Room(question);
-                theRooms[i][j] = room;
-            }
-        }
-        myRooms = theRooms;
+    /**
+     * Creates a maze with the set parameters from a random seed.
+     *
+     * @param theQuestions the questions to be entered into rooms.
+     * @param theRows      the number of rows in the maze.
+     * @param theColumns   the number of columns in the maze.
+     * @param theGenerator the generator that carves the corridors of the maze.
+     */
+    public Maze(final List<Question> theQuestions, final int theRows, final int theColumns,
+                final MazeGenerator theGenerator) {
+        this(theQuestions, theRows, theColumns, theGenerator, new SplittableRandom().nextLong());
+    }
 
-        setStartAndEndPosition();
-        mazeBorderCreation();
+    /**
+     * Creates a maze with the set parameters.
+     * The same seed, size, generator and questions always give the same maze.
+     *
+     * @param theQuestions the questions to be entered into rooms.
+     * @param theRows      the number of rows in the maze.
+     * @param theColumns   the number of columns in the maze.
+     * @param theGenerator the generator that carves the corridors of the maze.
+     * @param theSeed      the seed of every random choice made while building the maze.
+     */
+    public Maze(final List<Question> theQuestions, final int theRows, final int theColumns,
+                final MazeGenerator theGenerator, final long theSeed) {
+        this(theQuestions, theRows, theColumns, theGenerator, theSeed, new EndpointPlacer());
     }
 
     /**
-     * Sets the starting and ending position of the maze.
-     * The start and end positions are random.
-     * The end position is set to be some distance from the start position.
-     * This should only be called in the constructor.
+     * Creates a maze with the set parameters.
+     * The same seed, size, generator, placer and questions always give the same maze.
+     * Every room is given its question up front, in order of its index.
+     *
+     * @param theQuestions the questions to be entered into rooms.
+     * @param theRows      the number of rows in the maze.
+     * @param theColumns   the number of columns in the maze.
+     * @param theGenerator the generator that carves the corridors of the maze.
+     * @param theSeed      the seed of every random choice made while building the maze.
+     * @param thePlacer    the placer that picks the endpoint once the corridors are carved.
      */
-    private void setStartAndEndPosition() {
-        Random random = new Random();
-        int randomRow1 = random.nextInt(myRooms.length);
-        int randomCol1 = random.nextInt(myRooms[randomRow1].length);
-        myStartingRowCol = new int[]{randomRow1, randomCol1};
-
-        // Pick the second random element far away from the first
-        // the min distance is based off of manhattan distance
-        int minDistance1 = myRooms.length / 2;
-        int minDistance2 = myRooms[0].length / 2;
-        int minDistance = minDistance1 + minDistance2;
-
-        int randomRow2;
-        int randomCol2;
-        do {
-            randomRow2 = random.nextInt(myRooms.length);
-            randomCol2 = random.nextInt(myRooms[randomRow1].length);
-        } while (Math.abs(randomRow1 - randomRow2) + Math.abs(randomCol1 - randomCol2) < minDistance);
-        int[] endingRowCol = new int[]{randomRow2, randomCol2};
-        mazeFirstSetup(endingRowCol);
+    public Maze(final List<Question> theQuestions, final int theRows, final int theColumns,
+                final MazeGenerator theGenerator, final long theSeed, final EndpointPlacer thePlacer) {
+        this(new ListQuestionSource(theQuestions), theRows, theColumns, theGenerator, theSeed, thePlacer, true);
     }
 
     /**
-     * Creates the border wall of the maze.
+     * Creates a maze whose rooms are only given a question once they become LOCKED,
+     * so rooms that are never reached never hold one.
+     *
+     * @param theQuestionSource the source of the questions for the rooms.
+     * @param theRows      the number of rows in the maze.
+     * @param theColumns   the number of columns in the maze.
+     * @param theGenerator the generator that carves the corridors of the maze.
+     * @param theSeed      the seed of every random choice made while building the maze.
      */
-    private void mazeBorderCreation() {
-        // top row rooms, north wall
-        for (int i = 0; i < myRooms[0].length; i++) {
-            myRooms[0][i].setDoor(DoorDirection.NORTH, false);
-        }
-        // bottom row rooms, south wall
-        for (int i = 0; i < myRooms[0].length; i++) {
-            myRooms[myRooms.length - 1][i].setDoor(DoorDirection.SOUTH, false);
+    public Maze(final QuestionSource theQuestionSource, final int theRows, final int theColumns,
+                final MazeGenerator theGenerator, final long theSeed) {
+        this(theQuestionSource, theRows, theColumns, theGenerator, theSeed, new EndpointPlacer(), false);
+    }
+
+    /**
+     * Creates a maze with the set parameters.
+     *
+     * @param theQuestionSource the source of the questions for the rooms.
+     * @param theRows      the number of rows in the maze.
+     * @param theColumns   the number of columns in the maze.
+     * @param theGenerator the generator that carves the corridors of the maze.
+     * @param theSeed      the seed of every random choice made while building the maze.
+     * @param thePlacer    the placer that picks the endpoint once the corridors are carved.
+     * @param theBindAll   whether every room is given its question now rather than once it is LOCKED.
+     */
+    private Maze(final QuestionSource theQuestionSource, final int theRows, final int theColumns,
+                 final MazeGenerator theGenerator, final long theSeed, final EndpointPlacer thePlacer,
+                 final boolean theBindAll) {
+        mySeed = theSeed;
+        myQuestionSource = theQuestionSource;
+        myGrid = new RoomGrid(theRows, theColumns);
+
+        // each stage gets its own split, so changing one stage does not reshuffle the others
+        SplittableRandom random = new SplittableRandom(theSeed);
+        SplittableRandom fillRandom = random.split();
+        SplittableRandom generatorRandom = random.split();
+        SplittableRandom placementRandom = random.split();
+
+        for (int i = 0; i < myGrid.size(); i++) {
+            if (theBindAll) {
+                bindQuestion(i);
+            }
+            myGrid.setFill(i, ROOM_INFOS[fillRandom.nextInt(ROOM_INFOS.length - ROOM_INFO_FILL_START)
+                    + ROOM_INFO_FILL_START]);
         }
-        // first colomn rooms, west wall
-        for (Room[] room : myRooms) {
-            room[0].setDoor(DoorDirection.WEST, false);
+        theGenerator.generate(myGrid, generatorRandom);
+
+        setStartAndEndPosition(thePlacer, placementRandom);
+        if (getSolution().length == 0) {
+            throw new IllegalStateException("The ending room cannot be reached from the starting room");
         }
-        // last clumn rooms, east wall
-        for (Room[] myRoom : myRooms) {
-            myRoom[myRooms[0].length - 1].setDoor(DoorDirection.EAST, false);
+    }
+
+    /**
+     * Gives a room the next question of the source, if it does not have one yet.
+     *
+     * @param theIndex the index of the room.
+     */
+    private void bindQuestion(final int theIndex) {
+        if (myGrid.getQuestion(theIndex) == null) {
+            myGrid.setQuestion(theIndex, myQuestionSource.nextQuestion());
         }
     }
 
+    /**
+     * Sets the starting and ending position of the maze.
+     * The start position is random and the end position is picked by the placer,
+     * so it is far from the start by path rather than as the crow flies.
+     * This should only be called in the constructor.
+     *
+     * @param thePlacer the placer that picks the end position.
+     * @param theRandom the random number generator to pick the positions with.
+     */
+    private void setStartAndEndPosition(final EndpointPlacer thePlacer, final RandomGenerator theRandom) {
+        final int start = theRandom.nextInt(myGrid.size());
+        myStartingRowCol = new int[]{start / getCols(), start % getCols()};
+
+        myEndingIndex = thePlacer.placeEnd(myGrid, start, theRandom);
+        int[] endingRowCol = new int[]{myEndingIndex / getCols(), myEndingIndex % getCols()};
+        mazeFirstSetup(endingRowCol);
+    }
+
     /**
      * Sets the starting and ending rooms to the correct state.
      *
      * @param theEndingRowCol the ending position of the maze.
      */
     private void mazeFirstSetup(final int[] theEndingRowCol) {
-        getRoom(myStartingRowCol[0], myStartingRowCol[1]).setVisibility(Visibility.VISIBLE);
+        Room startingRoom = getRoom(myStartingRowCol[0], myStartingRowCol[1]);
+        startingRoom.setVisibility(Visibility.VISIBLE);
         getRoom(theEndingRowCol[0], theEndingRowCol[1]).setAsEndpoint();
+        updateVisibilityAround(startingRoom);
     }
 
     /**
@@ -119,53 +210,19 @@ public final class Maze implements Serializable {
      * @param theCol the col position.
      * @return the room in the position. If it does not exist, return null.
      */
+    @Override
     public Room getRoom(final int theRow, final int theCol) {
-        boolean isValid = false;
-        if (theRow < myRooms.length && theRow >= 0) {
-            if (theCol < myRooms[0].length && theCol >= 0) {
-                isValid = true;
-            }
-        }
-        if (!isValid) {
+        int index = myGrid.indexOf(theRow, theCol);
+        if (index < 0) {
             return null;
         } else {
-            return myRooms[theRow][theCol];
+            return new Room(myGrid, index);
         }
     }
 
-    /**
-     * Gets whether there are any nearby passages
-     * gives in order of NESW
-     * If the room does not exist, it will return [-1][-1]
-     *
-     * @param theRow The row of the room to find the adjacent rooms of.
-     * @param theCol The col of the room to find the adjacent rooms of.
-     * @return the adjacent rooms.
-     */
-    private int[][] getAdjacentRooms(final int theRow, final int theCol) {
-        int[][] adjacentRooms = new int[4][2];
-        int[][] directions = new int[][]{{theRow - 1, theCol},
-                {theRow, theCol + 1},
-                {theRow + 1, theCol},
-                {theRow, theCol - 1},};
-
-        for (int i = 0; i < directions.length; i++) {
-            int row = directions[i][0];
-            int col = directions[i][1];
-
-            if (getRoom(row, col) != null) {
-                adjacentRooms[i] = new int[]{row, col};
-            } else {
-                adjacentRooms[i] = new int[]{-1, -1};
-
-            }
-
-        }
-        return adjacentRooms;
-    }
-
     /**
      * Returns if there is a passage between the two rooms.
+     * Rooms that are not next to each other never have a passage between them.
      *
      * @param theRow1 the row of the first room.
      * @param theCol1 the column of the first room.
@@ -173,55 +230,187 @@ public final class Maze implements Serializable {
      * @param theCol2 the column of the second room.
      * @return whether there is a passage between the rooms.
      */
-    private boolean hasPassageBetween(final int theRow1, final int theCol1, final int theRow2, final int theCol2) {
-        Room room1 = getRoom(theRow1, theCol1);
-        Room room2 = getRoom(theRow2, theCol2);
-
-        if (room1 == null || room2 == null) {
-            return true;
+    public boolean hasPassageBetween(final int theRow1, final int theCol1, final int theRow2, final int theCol2) {
+        int room1 = myGrid.indexOf(theRow1, theCol1);
+        int room2 = myGrid.indexOf(theRow2, theCol2);
+        if (room1 < 0 || room2 < 0) {
+            return false;
         }
-        int[][] adjacentRooms = getAdjacentRooms(theRow1, theCol1);
-        for (int i = 0; i < adjacentRooms.length; i++) {
-            Room adjRoom = getRoom(adjacentRooms[i][0], adjacentRooms[i][1]);
-            if (adjRoom != null) {
-                if (theRow2 == adjacentRooms[i][0] && theCol2 == adjacentRooms[i][1]) {
-                    if (room1.getHasNESWDoor(RoomEnums.DOOR_DIRECTIONS[i]) &&
-                            adjRoom.getHasNESWDoor(RoomEnums.inverseDoorDirection(RoomEnums.DOOR_DIRECTIONS[i]))) {
-                        return true;
-                    }
-                }
+        for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+            if (myGrid.neighbourOf(room1, direction) == room2) {
+                return myGrid.hasPassage(room1, direction);
             }
         }
         return false;
     }
 
+    /**
+     * Gives the question source of this maze its questions again after the maze was loaded from
+     * a save, since the source only saves how far it has drawn. Rooms that already hold a
+     * question keep it.
+     *
+     * @param theBank the loaded question bank.
+     */
+    public void attachQuestions(final QuestionBank theBank) {
+        myQuestionSource.attach(theBank);
+    }
+
+    /**
+     * Gets the index of the room next to a room in the given direction.
+     * Indices are row-major, see {@link #getRoomIndex(int, int)}. This never allocates, so it
+     * can be used to walk the maze one room at a time.
+     *
+     * @param theIndex the index of the room.
+     * @param theDirection the ordinal of the DoorDirection of the neighbour.
+     * @return the index of the neighbour, or -1 if it is outside the maze.
+     */
+    public int getNeighbourIndex(final int theIndex, final int theDirection) {
+        return myGrid.neighbourOf(theIndex, theDirection);
+    }
+
+    /**
+     * Gets whether there is a passage from a room to its neighbour in the given direction.
+     * This never allocates.
+     *
+     * @param theIndex the index of the room.
+     * @param theDirection the ordinal of the DoorDirection of the passage.
+     * @return whether there is a passage.
+     */
+    public boolean hasPassage(final int theIndex, final int theDirection) {
+        return myGrid.hasPassage(theIndex, theDirection);
+    }
+
+    /**
+     * Gets the visibility of a room. This never allocates.
+     *
+     * @param theIndex the index of the room.
+     * @return the visibility of the room.
+     */
+    public Visibility getVisibility(final int theIndex) {
+        return myGrid.getVisibility(theIndex);
+    }
+
+    /**
+     * Gets the fill layer that is drawn for a room. This never allocates.
+     *
+     * @param theIndex the index of the room.
+     * @return the fill layer of the room.
+     */
+    @Override
+    public RoomInfo getShownFill(final int theIndex) {
+        return myGrid.getShownFill(theIndex);
+    }
+
+    /**
+     * Gets whether the door of a room in the given direction is open. This never allocates.
+     *
+     * @param theIndex the index of the room.
+     * @param theNESW the direction of the door.
+     * @return whether the door is open.
+     */
+    @Override
+    public boolean isDoorOpen(final int theIndex, final DoorDirection theNESW) {
+        return myGrid.isDoorOpen(theIndex, theNESW);
+    }
+
+    /**
+     * Gets whether a room is highlighted. This never allocates.
+     *
+     * @param theIndex the index of the room.
+     * @return whether the room is highlighted.
+     */
+    @Override
+    public boolean isHighlighted(final int theIndex) {
+        return myGrid.isHighlighted(theIndex);
+    }
+
+    /**
+     * Gets whether a room is an endpoint. This never allocates.
+     *
+     * @param theIndex the index of the room.
+     * @return whether the room is an endpoint.
+     */
+    public boolean isEndpoint(final int theIndex) {
+        return myGrid.isEndpoint(theIndex);
+    }
+
     /**
      * Gets the currently selected room.
      *
      * @return the currently selected room.
      */
+    @Override
     public Room getCurrentlySelectedRoom() {
-        return mySelectedRoom;
+        return mySelectedIndex < 0 ? null : new Room(myGrid, mySelectedIndex);
+    }
+
+    /**
+     * Gets the index of the currently selected room, so views can follow it without a Room.
+     *
+     * @return the row-major index of the selected room, or -1 if none is selected.
+     */
+    @Override
+    public int getSelectedRoomIndex() {
+        return mySelectedIndex;
     }
 
     /**
      * Updates the selected room
      */
+    @Override
     public void setSelectedRoom(Room theSelectedRoom) {
-        mySelectedRoom = theSelectedRoom;
+        mySelectedIndex = theSelectedRoom == null ? -1 : theSelectedRoom.getIndex();
     }
 
     /**
      * Updates the visibility of all rooms.
+     * This walks every room that can be reached from the start, so it is only needed after the
+     * visibility of rooms was changed directly. When a single room becomes visible, use
+     * {@link #updateVisibilityAround(Room)} instead.
      */
     public void updateRoomVisibility() {
         updateVisibility();
     }
 
+    /**
+     * Updates the visibility of the rooms around a room whose visibility just changed.
+     * When the room is visible, every MYSTERY neighbour behind an open passage becomes LOCKED
+     * and is given its question.
+     * Only the direct neighbours are touched, so this takes constant time on any maze.
+     *
+     * @param theRoom the room whose visibility changed.
+     * @return the indices of the rooms that changed, starting with the room itself.
+     */
+    @Override
+    public int[] updateVisibilityAround(final Room theRoom) {
+        final int cell = theRoom.getIndex();
+        final int[] changed = new int[DOOR_DIRECTIONS.length + 1];
+        int count = 0;
+        changed[count++] = cell;
+
+        if (myGrid.getVisibility(cell) == Visibility.VISIBLE) {
+            for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+                final int neighbour = myGrid.neighbourOf(cell, direction);
+                if (myGrid.hasPassage(cell, direction)
+                        && myGrid.getVisibility(neighbour) == Visibility.MYSTERY) {
+                    myGrid.setVisibility(neighbour, Visibility.LOCKED);
+                    bindQuestion(neighbour);
+                    changed[count++] = neighbour;
+                }
+            }
+        }
+        return Arrays.copyOf(changed, count);
+    }
+
     /**
      * Returns the index of the given row / column as if the grid was a 1d array.
+     *
+     * @param theRow the row position.
+     * @param theCol the col position.
+     * @return the index of the room.
      */
-    private int getRoomIndex(final int theRow, final int theCol) {
+    @Override
+    public int getRoomIndex(final int theRow, final int theCol) {
         return theCol + (theRow * getCols());
     }
 
@@ -229,54 +418,97 @@ public final class Maze implements Serializable {
      *  Update the visibility of rooms in a flattened 2d array.
      *  This method starts from a given starting room and travels adjacent rooms,
      *  updating their visibility based on the existence of passages between rooms.
-     *  The visibility of a room is set to 1 if it has a passage from the current room,
-     *  and it is not already fully visible. This method uses a stack to manage the rooms
-     *  to visit and a set to keep track of visited rooms.
+     *  A room behind a passage from a visible room becomes LOCKED if it is not visible yet.
+     *  The rooms to visit are kept in an int stack and the visited rooms in a boolean array,
+     *  so walking from room to room allocates nothing.
      */
     private void updateVisibility() {
-        Stack<Integer> roomsToVisit = new Stack<>();
-        Set<Integer> visitedRooms = new HashSet<>();
-        roomsToVisit.add(getRoomIndex(myStartingRowCol[0], myStartingRowCol[1]));
-
-        while (!roomsToVisit.isEmpty()) {
-            int currentRoomIndex = roomsToVisit.pop();
-            int currentCol = currentRoomIndex % getCols();
-            int currentRow = currentRoomIndex / getCols();
-            int[][] theAdjRooms = getAdjacentRooms(currentRow, currentCol);
-
-            for (int[] theAdjRoom : theAdjRooms) {
-                int adjacentRoomRow = theAdjRoom[0];
-                int adjacentRoomCol = theAdjRoom[1];
-                int adjacentRoomIndex = getRoomIndex(adjacentRoomRow, adjacentRoomCol);
-                Room adjRoom = getRoom(adjacentRoomRow, adjacentRoomCol);
-
-                if (visitedRooms.contains(adjacentRoomIndex)) {
+        final boolean[] visitedRooms = new boolean[myGrid.size()];
+        final int[] roomsToVisit = new int[myGrid.size()];
+        int top = 0;
+        final int startingRoomIndex = getRoomIndex(myStartingRowCol[0], myStartingRowCol[1]);
+        roomsToVisit[top++] = startingRoomIndex;
+        visitedRooms[startingRoomIndex] = true;
+
+        while (top > 0) {
+            final int currentRoomIndex = roomsToVisit[--top];
+            for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+                if (!myGrid.hasPassage(currentRoomIndex, direction)) {
+                    continue;
+                }
+                final int adjacentRoomIndex = myGrid.neighbourOf(currentRoomIndex, direction);
+                if (visitedRooms[adjacentRoomIndex]) {
                     // Don't revisit a room that has already been processed.
                     continue;
                 }
-
-                if (adjRoom != null) {
-                    if (hasPassageBetween(currentRow, currentCol, adjacentRoomRow, adjacentRoomCol)) {
-                        if (adjRoom.isVisible()) {
-                            roomsToVisit.push(getRoomIndex(adjacentRoomRow, adjacentRoomCol));
-                        } else {
-                            // Take into account answered wrong...
-                            adjRoom.setVisibility(Visibility.LOCKED);
-                        }
-                    }
-                    visitedRooms.add(adjacentRoomIndex);
+                visitedRooms[adjacentRoomIndex] = true;
+
+                if (myGrid.getVisibility(adjacentRoomIndex) == Visibility.VISIBLE) {
+                    roomsToVisit[top++] = adjacentRoomIndex;
+                } else {
+                    // Take into account answered wrong...
+                    myGrid.setVisibility(adjacentRoomIndex, Visibility.LOCKED);
+                    bindQuestion(adjacentRoomIndex);
                 }
             }
         }
     }
 
+    /**
+     * Gets a shortest route through the maze.
+     *
+     * @return the indices of the rooms from the starting room to the ending room.
+     */
+    public int[] getSolution() {
+        return SOLVER.findPath(myGrid, getRoomIndex(myStartingRowCol[0], myStartingRowCol[1]), myEndingIndex);
+    }
+
+    /**
+     * Gets the next room to answer on the way to the end, which is the first room of the
+     * shortest route that is not visible yet.
+     *
+     * @return the next room on the route, or null if every room on it is visible.
+     */
+    @Override
+    public Room getHintRoom() {
+        for (final int index : getSolution()) {
+            if (myGrid.getVisibility(index) != Visibility.VISIBLE) {
+                return new Room(myGrid, index);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes the indices of the rooms whose state changed since the last call, so a view only has
+     * to redraw those rooms. The first call, and any call after a very large number of changes,
+     * returns null, meaning every room should be redrawn.
+     *
+     * @return the changed rooms, or null if every room should be redrawn.
+     */
+    @Override
+    public int[] takeDirtyCells() {
+        return myGrid.takeDirtyCells();
+    }
+
+    /**
+     * Gets the seed this maze was built from.
+     *
+     * @return the seed of the maze.
+     */
+    @Override
+    public long getSeed() {
+        return mySeed;
+    }
+
     /**
      * Gets the number of rows in this maze.
      *
      * @return the number of rows.
      */
+    @Override
     public int getRows() {
-        return myRooms.length;
+        return myGrid.getRows();
     }
 
     /**
@@ -284,7 +516,8 @@ public final class Maze implements Serializable {
      *
      * @return the number of columns.
      */
+    @Override
     public int getCols() {
-        return myRooms[0].length;
+        return myGrid.getCols();
     }
 }
@@ -3,6 +3,9 @@ package model;
 import java.util.Collections;
 import java.util.List;
 
+import model.QuestionEnums.Difficulty;
+import model.QuestionEnums.QuestionType;
+
 /**
  * Models multiple choice questions.
  *
@@ -30,7 +33,26 @@ public final class MultipleChoiceQuestion extends Question {
             final String theAnswer,
             final List<String> theWrongAnswers
     ) {
-        super(thePrompt);
+        this(thePrompt, theAnswer, theWrongAnswers, DEFAULT_DIFFICULTY, DEFAULT_CATEGORY);
+    }
+
+    /**
+     * Constructs an multiple choice question with a difficulty and a category
+     *
+     * @param thePrompt the prompt of the question
+     * @param theAnswer the correct answer of the question
+     * @param theWrongAnswers the incorrect answers of the question
+     * @param theDifficulty the difficulty of the question
+     * @param theCategory the category tag of the question
+     */
+    public MultipleChoiceQuestion(
+            final String thePrompt,
+            final String theAnswer,
+            final List<String> theWrongAnswers,
+            final Difficulty theDifficulty,
+            final String theCategory
+    ) {
+        super(thePrompt, theDifficulty, theCategory);
         myAnswer = theAnswer;
         myPossibleAnswers = theWrongAnswers;
         myPossibleAnswers.add(myAnswer);
@@ -44,6 +66,11 @@ public final class MultipleChoiceQuestion extends Question {
      */
     public List<String> getPossibleAnswers() { return myPossibleAnswers; }
 
+    @Override
+    public QuestionType getType() {
+        return QuestionType.MULTIPLE_CHOICE;
+    }
+
     @Override
     public boolean checkAnswer(String theAnswer) {
         return myAnswer.equals(theAnswer);
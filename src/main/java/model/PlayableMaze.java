@@ -0,0 +1,126 @@
+package model;
+
+import model.RoomEnums.DoorDirection;
+import model.RoomEnums.RoomInfo;
+
+/**
+ * A maze the game can be played on, as the views and the controller see it. Rooms are
+ * addressed by row and column inside a rectangle of getRows() by getCols() rooms, and by a
+ * row-major index inside that rectangle. The rooms handed out are views onto the maze, so they
+ * should be asked for again rather than kept between turns.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public interface PlayableMaze {
+
+    /**
+     * Gets the number of rows in this maze.
+     *
+     * @return the number of rows.
+     */
+    int getRows();
+
+    /**
+     * Gets the number of columns in this maze.
+     *
+     * @return the number of columns.
+     */
+    int getCols();
+
+    /**
+     * Returns the index of the given row / column as if the grid was a 1d array.
+     *
+     * @param theRow the row position.
+     * @param theCol the col position.
+     * @return the index of the room.
+     */
+    int getRoomIndex(int theRow, int theCol);
+
+    /**
+     * Gets the room at a position.
+     *
+     * @param theRow the row position.
+     * @param theCol the col position.
+     * @return the room, or null if it does not exist.
+     */
+    Room getRoom(int theRow, int theCol);
+
+    /**
+     * Gets the fill layer that is drawn for a room. This never allocates.
+     *
+     * @param theIndex the index of the room.
+     * @return the fill layer of the room.
+     */
+    RoomInfo getShownFill(int theIndex);
+
+    /**
+     * Gets whether the door of a room in the given direction is open. This never allocates.
+     *
+     * @param theIndex the index of the room.
+     * @param theNESW the direction of the door.
+     * @return whether the door is open.
+     */
+    boolean isDoorOpen(int theIndex, DoorDirection theNESW);
+
+    /**
+     * Gets whether a room is highlighted. This never allocates.
+     *
+     * @param theIndex the index of the room.
+     * @return whether the room is highlighted.
+     */
+    boolean isHighlighted(int theIndex);
+
+    /**
+     * Gets the currently selected room.
+     *
+     * @return the currently selected room, or null if none is selected.
+     */
+    Room getCurrentlySelectedRoom();
+
+    /**
+     * Gets the index of the currently selected room, so views can follow it without a Room.
+     *
+     * @return the row-major index of the selected room, or -1 if none is selected.
+     */
+    int getSelectedRoomIndex();
+
+    /**
+     * Updates the selected room.
+     *
+     * @param theSelectedRoom the room to select, or null to select none.
+     */
+    void setSelectedRoom(Room theSelectedRoom);
+
+    /**
+     * Updates the visibility of the rooms around a room whose visibility just changed.
+     * When the room is visible, every MYSTERY neighbour behind an open passage becomes LOCKED
+     * and is given its question.
+     *
+     * @param theRoom the room whose visibility changed.
+     * @return the indices of the rooms that changed, starting with the room itself.
+     */
+    int[] updateVisibilityAround(Room theRoom);
+
+    /**
+     * Gets the next room to answer on the way to the end.
+     *
+     * @return the next room, or null if there is none to suggest.
+     */
+    Room getHintRoom();
+
+    /**
+     * Takes the indices of the rooms whose state changed since the last call, so a view only has
+     * to redraw those rooms.
+     *
+     * @return the changed rooms, or null if every room should be redrawn.
+     */
+    int[] takeDirtyCells();
+
+    /**
+     * Gets the seed this maze was built from.
+     *
+     * @return the seed of the maze.
+     */
+    long getSeed();
+}
@@ -3,6 +3,9 @@ package model;
 import java.io.Serial;
 import java.io.Serializable;
 
+import model.QuestionEnums.Difficulty;
+import model.QuestionEnums.QuestionType;
+
 /**
  * Represents a question that can be asked.
  *
@@ -16,16 +19,41 @@ public abstract class Question implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /** The difficulty of questions that were not given one. */
+    public static final Difficulty DEFAULT_DIFFICULTY = Difficulty.MEDIUM;
+
+    /** The category of questions that were not given one. */
+    public static final String DEFAULT_CATEGORY = "General";
+
     /** The prompt of this question. */
     private final String myPrompt;
 
+    /** The difficulty of this question, null in games saved before questions had one. */
+    private final Difficulty myDifficulty;
+
+    /** The category tag of this question, null in games saved before questions had one. */
+    private final String myCategory;
+
     /**
      * Constructs a question.
      *
      * @param thePrompt the prompt of this question.
      */
     public Question(String thePrompt) {
+        this(thePrompt, DEFAULT_DIFFICULTY, DEFAULT_CATEGORY);
+    }
+
+    /**
+     * Constructs a question with a difficulty and a category.
+     *
+     * @param thePrompt the prompt of this question.
+     * @param theDifficulty the difficulty of this question.
+     * @param theCategory the category tag of this question.
+     */
+    public Question(final String thePrompt, final Difficulty theDifficulty, final String theCategory) {
         this.myPrompt = thePrompt;
+        this.myDifficulty = theDifficulty == null ? DEFAULT_DIFFICULTY : theDifficulty;
+        this.myCategory = theCategory == null ? DEFAULT_CATEGORY : theCategory;
     }
 
     /**
@@ -37,6 +65,31 @@ public abstract class Question implements Serializable {
         return myPrompt;
     }
 
+    /**
+     * Gets the difficulty of this question.
+     *
+     * @return the difficulty of the question.
+     */
+    public Difficulty getDifficulty() {
+        return myDifficulty == null ? DEFAULT_DIFFICULTY : myDifficulty;
+    }
+
+    /**
+     * Gets the category tag of this question.
+     *
+     * @return the category of the question.
+     */
+    public String getCategory() {
+        return myCategory == null ? DEFAULT_CATEGORY : myCategory;
+    }
+
+    /**
+     * Gets the kind of this question.
+     *
+     * @return the type of the question.
+     */
+    public abstract QuestionType getType();
+
     /**
      * Checks the answer of the question to see if the input is correct.
      *
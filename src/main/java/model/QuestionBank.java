@@ -0,0 +1,304 @@
+package model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import model.QuestionEnums.Difficulty;
+import model.QuestionEnums.QuestionType;
+
+import static model.QuestionEnums.DIFFICULTIES;
+import static model.QuestionEnums.QUESTION_TYPES;
+
+/**
+ * Holds every question that was loaded for the game. A bank is built once, usually on a
+ * background thread, and is never changed afterwards, so it can be shared between threads.
+ * <p>
+ * Next to the questions, the bank keeps an index of int arrays, one bucket for every
+ * combination of category, type and difficulty, holding the positions of the questions of that
+ * combination. A {@link Filter} picks a set of types, difficulties and categories, and any
+ * intersection of them is a handful of these buckets, so selecting the questions of a filter
+ * never scans the bank. The selection is a list view over the buckets, which a
+ * {@link QuestionSampler} can draw k questions from in O(k).
+ *
+ * @author Mathew Miller
+ * @version 1.0
+ */
+public final class QuestionBank {
+
+    /** The number of question types. */
+    private static final int TYPE_COUNT = QUESTION_TYPES.length;
+
+    /** The number of difficulties. */
+    private static final int DIFFICULTY_COUNT = DIFFICULTIES.length;
+
+    /** The questions of the bank, in the order they were loaded. */
+    private final Question[] myQuestions;
+
+    /** The unmodifiable list view of the questions. */
+    private final List<Question> myQuestionList;
+
+    /** The category tags of the questions, in the order they first appear. */
+    private final List<String> myCategories;
+
+    /** The id of each category tag, its position in myCategories. */
+    private final Map<String, Integer> myCategoryIds;
+
+    /** The question positions of each category, type and difficulty, indexed by bucketOf. */
+    private final int[][] myBuckets;
+
+    /**
+     * Selects questions by type, difficulty and category. Each part is either a set of allowed
+     * values or null, which allows any value. Filters are immutable, and small enough to be
+     * saved in place of the questions they select.
+     */
+    public static final class Filter implements Serializable {
+
+        /** The serialVersionUID for this object. */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /** The filter that allows every question. */
+        public static final Filter ANY = new Filter(null, null, null);
+
+        /** The allowed types, or null for any type. */
+        private final Set<QuestionType> myTypes;
+
+        /** The allowed difficulties, or null for any difficulty. */
+        private final Set<Difficulty> myDifficulties;
+
+        /** The allowed categories, or null for any category. */
+        private final Set<String> myCategories;
+
+        /**
+         * Creates a filter.
+         *
+         * @param theTypes the allowed types, or null for any.
+         * @param theDifficulties the allowed difficulties, or null for any.
+         * @param theCategories the allowed categories, or null for any.
+         */
+        private Filter(final Set<QuestionType> theTypes, final Set<Difficulty> theDifficulties,
+                       final Set<String> theCategories) {
+            myTypes = theTypes;
+            myDifficulties = theDifficulties;
+            myCategories = theCategories;
+        }
+
+        /**
+         * Gets a copy of this filter that only allows the given types.
+         *
+         * @param theTypes the allowed types.
+         * @return the new filter.
+         */
+        public Filter withTypes(final QuestionType... theTypes) {
+            final Set<QuestionType> types = EnumSet.noneOf(QuestionType.class);
+            types.addAll(Arrays.asList(theTypes));
+            return new Filter(Collections.unmodifiableSet(types), myDifficulties, myCategories);
+        }
+
+        /**
+         * Gets a copy of this filter that only allows the given difficulties.
+         *
+         * @param theDifficulties the allowed difficulties.
+         * @return the new filter.
+         */
+        public Filter withDifficulties(final Difficulty... theDifficulties) {
+            final Set<Difficulty> difficulties = EnumSet.noneOf(Difficulty.class);
+            difficulties.addAll(Arrays.asList(theDifficulties));
+            return new Filter(myTypes, Collections.unmodifiableSet(difficulties), myCategories);
+        }
+
+        /**
+         * Gets a copy of this filter that only allows the given categories.
+         *
+         * @param theCategories the allowed category tags.
+         * @return the new filter.
+         */
+        public Filter withCategories(final String... theCategories) {
+            return new Filter(myTypes, myDifficulties,
+                    Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(theCategories))));
+        }
+    }
+
+    /**
+     * Creates a bank holding the given questions and indexes them.
+     *
+     * @param theQuestions the questions, copied into the bank.
+     */
+    public QuestionBank(final List<Question> theQuestions) {
+        myQuestions = theQuestions.toArray(new Question[0]);
+        myQuestionList = Collections.unmodifiableList(Arrays.asList(myQuestions));
+
+        final List<String> categories = new ArrayList<>();
+        myCategoryIds = new HashMap<>();
+        final int[] categoryOf = new int[myQuestions.length];
+        for (int i = 0; i < myQuestions.length; i++) {
+            categoryOf[i] = myCategoryIds.computeIfAbsent(myQuestions[i].getCategory(), category -> {
+                categories.add(category);
+                return categories.size() - 1;
+            });
+        }
+        myCategories = Collections.unmodifiableList(categories);
+
+        // count each bucket first so every bucket is allocated at its exact size
+        final int[] buckets = new int[myQuestions.length];
+        final int[] sizes = new int[categories.size() * TYPE_COUNT * DIFFICULTY_COUNT];
+        for (int i = 0; i < myQuestions.length; i++) {
+            buckets[i] = bucketOf(categoryOf[i], myQuestions[i].getType(), myQuestions[i].getDifficulty());
+            sizes[buckets[i]]++;
+        }
+        myBuckets = new int[sizes.length][];
+        for (int bucket = 0; bucket < sizes.length; bucket++) {
+            myBuckets[bucket] = new int[sizes[bucket]];
+            sizes[bucket] = 0;
+        }
+        for (int i = 0; i < myQuestions.length; i++) {
+            myBuckets[buckets[i]][sizes[buckets[i]]++] = i;
+        }
+    }
+
+    /**
+     * Gets every question of the bank.
+     *
+     * @return an unmodifiable list of the questions.
+     */
+    public List<Question> getQuestions() {
+        return myQuestionList;
+    }
+
+    /**
+     * Gets the category tags used by the questions of the bank.
+     *
+     * @return an unmodifiable list of the categories, in the order they first appear.
+     */
+    public List<String> getCategories() {
+        return myCategories;
+    }
+
+    /**
+     * Gets the number of questions in the bank.
+     *
+     * @return the number of questions.
+     */
+    public int size() {
+        return myQuestions.length;
+    }
+
+    /**
+     * Gets whether the bank has no questions, for example because the database was missing.
+     *
+     * @return whether the bank is empty.
+     */
+    public boolean isEmpty() {
+        return myQuestions.length == 0;
+    }
+
+    /**
+     * Gets the questions allowed by a filter. Only the buckets of the filter are looked at,
+     * never the questions themselves, and the result is a view that finds a question by its
+     * position with a binary search over those buckets.
+     *
+     * @param theFilter the filter to apply.
+     * @return an unmodifiable list of the matching questions, which may be empty.
+     */
+    public List<Question> select(final Filter theFilter) {
+        final List<int[]> parts = new ArrayList<>();
+        for (int category = 0; category < myCategories.size(); category++) {
+            if (theFilter.myCategories != null && !theFilter.myCategories.contains(myCategories.get(category))) {
+                continue;
+            }
+            for (final QuestionType type : QUESTION_TYPES) {
+                if (theFilter.myTypes != null && !theFilter.myTypes.contains(type)) {
+                    continue;
+                }
+                for (final Difficulty difficulty : DIFFICULTIES) {
+                    if (theFilter.myDifficulties != null && !theFilter.myDifficulties.contains(difficulty)) {
+                        continue;
+                    }
+                    final int[] bucket = myBuckets[bucketOf(category, type, difficulty)];
+                    if (bucket.length > 0) {
+                        parts.add(bucket);
+                    }
+                }
+            }
+        }
+        return new Selection(myQuestions, parts.toArray(new int[0][]));
+    }
+
+    /**
+     * Gets the bucket of a category, type and difficulty.
+     *
+     * @param theCategory the id of the category.
+     * @param theType the question type.
+     * @param theDifficulty the difficulty.
+     * @return the index of the bucket in myBuckets.
+     */
+    private static int bucketOf(final int theCategory, final QuestionType theType, final Difficulty theDifficulty) {
+        return (theCategory * TYPE_COUNT + theType.ordinal()) * DIFFICULTY_COUNT + theDifficulty.ordinal();
+    }
+
+    /**
+     * The questions of a few buckets seen as one list. It shares the arrays of the bank, so it
+     * is never saved, a sampler saves its filter instead and selects again after loading.
+     */
+    private static final class Selection extends AbstractList<Question> implements RandomAccess {
+
+        /** The questions of the bank. */
+        private final Question[] myQuestions;
+
+        /** The buckets of the selection. */
+        private final int[][] myParts;
+
+        /** The position in the selection of the first question of each bucket. */
+        private final int[] myStarts;
+
+        /** The number of questions in the selection. */
+        private final int mySize;
+
+        /**
+         * Creates a selection over the given buckets.
+         *
+         * @param theQuestions the questions of the bank.
+         * @param theParts the non-empty buckets of the selection.
+         */
+        private Selection(final Question[] theQuestions, final int[][] theParts) {
+            myQuestions = theQuestions;
+            myParts = theParts;
+            myStarts = new int[theParts.length];
+            int size = 0;
+            for (int part = 0; part < theParts.length; part++) {
+                myStarts[part] = size;
+                size += theParts[part].length;
+            }
+            mySize = size;
+        }
+
+        @Override
+        public Question get(final int theIndex) {
+            if (theIndex < 0 || theIndex >= mySize) {
+                throw new IndexOutOfBoundsException("Index " + theIndex + " out of " + mySize + " questions");
+            }
+            int part = Arrays.binarySearch(myStarts, theIndex);
+            if (part < 0) {
+                // not the first question of a bucket, so it is in the bucket before the insertion point
+                part = -part - 2;
+            }
+            return myQuestions[myParts[part][theIndex - myStarts[part]]];
+        }
+
+        @Override
+        public int size() {
+            return mySize;
+        }
+    }
+}
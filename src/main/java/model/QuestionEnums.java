@@ -0,0 +1,35 @@
+package model;
+
+/**
+ * Holds enums used to describe and select questions.
+ *
+ * @author Mathew Miller
+ * @version 1.0
+ */
+public final class QuestionEnums {
+
+    /**
+     * The kinds of question, one per Question subclass.
+     */
+    public enum QuestionType {
+        MULTIPLE_CHOICE,
+        BOOLEAN,
+        TEXT_INPUT
+    }
+    /** Holds the QuestionType values for easy access to their integer equivalents. */
+    public static final QuestionType[] QUESTION_TYPES = QuestionType.values();
+
+    /**
+     * How hard a question is to answer.
+     */
+    public enum Difficulty {
+        EASY,
+        MEDIUM,
+        HARD
+    }
+    /** Holds the Difficulty values for easy access to their integer equivalents. */
+    public static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    /** Private constructor to prevent instantiation. */
+    private QuestionEnums() { /* do nothing */ }
+}
@@ -1,12 +1,15 @@
 package model;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Path;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
+
+import model.QuestionEnums.Difficulty;
 
 /**
  * A factory class for creating and retrieving questions from a database. Supports multiple-choice,
@@ -18,83 +21,210 @@ import java.util.List;
  */
 public final class QuestionFactory {
 
-    /**
-     * Retrieves a list of questions from the database. The questions include multiple-choice,
-     * boolean, and text-input types.
-     *
-     * @return a list of questions retrieved from the database
-     */
-    public static List<Question> getQuestionsFromDatabase() {
-        List<Question> questionList = new ArrayList<>();
-
-        String selectMultipleChoice = "SELECT question, answer, wrong_answer_1," +
-                " wrong_answer_2, wrong_answer_3 FROM multiple_choice_question";
-        String selectBoolean = "SELECT question, answer FROM boolean_question";
-        String selectTextInput = "SELECT question, answer FROM text_input_question";
-
-        File dbFile = new File("questions.sqlite");
-        if (!dbFile.exists()) {
-            try (InputStream in = QuestionFactory.class.getResourceAsStream("/questions.sqlite")) {
-                if (in != null) {
-                    Files.copy(in, dbFile.toPath());
-                } else {
-                    System.out.println("Database resource not found in JAR!");
-                    return questionList;
-                }
-            } catch (final IOException theException) {
-                theException.printStackTrace();
-                return questionList;
-            }
-        }
+    /** The resource path of the question database bundled with the game. */
+    private static final String DATABASE_RESOURCE = "/questions.sqlite";
 
-        try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getAbsolutePath());
-             Statement stmt = conn.createStatement()) {
+    /** The file name of the binary snapshot of the question database. */
+    private static final String SNAPSHOT_FILE = "questions.snapshot";
 
-            ResultSet rs = stmt.executeQuery(selectMultipleChoice);
-            while (rs.next()) {
-                String prompt = rs.getString("question");
-                String answer = rs.getString("answer");
-                String wa1 = rs.getString("wrong_answer_1");
-                String wa2 = rs.getString("wrong_answer_2");
-                String wa3 = rs.getString("wrong_answer_3");
+    /**
+     * The query reading every question with its wrong answers, ordered so the rows of a
+     * question are next to each other and its wrong answers keep their order.
+     */
+    private static final String SELECT_QUESTIONS = """
+            SELECT q.id, q.type, q.prompt, q.answer, q.difficulty, q.category, c.choice
+            FROM question q
+            LEFT JOIN question_choice c ON c.question_id = q.id
+            ORDER BY q.id, c.position
+            """;
 
-                List<String> wrongAnswers = new ArrayList<>();
-                wrongAnswers.add(wa1);
-                wrongAnswers.add(wa2);
-                wrongAnswers.add(wa3);
+    /** The number of rows the driver is asked to fetch at a time while the questions are read. */
+    private static final int FETCH_SIZE = 1024;
 
-                MultipleChoiceQuestion question = new MultipleChoiceQuestion(prompt, answer, wrongAnswers);
-                questionList.add(question);
-            }
-            rs.close();
+    /** The SQLite open flag for opening a database read-only. */
+    private static final String READ_ONLY_OPEN_MODE = "1";
 
-            rs = stmt.executeQuery(selectBoolean);
-            while (rs.next()) {
-                String prompt = rs.getString("question");
-                boolean answer = rs.getBoolean("answer");
+    /**
+     * Retrieves every question, reading them from the binary snapshot when it was made from the
+     * bundled database. Otherwise the questions are read from the database and a new snapshot is
+     * written, so SQLite is only opened on the first run or after the database changed.
+     *
+     * @return a list of questions
+     */
+    public static List<Question> getQuestions() {
+        final URL database = QuestionFactory.class.getResource(DATABASE_RESOURCE);
+        if (database == null) {
+            System.out.println("Database resource not found in JAR!");
+            return new ArrayList<>();
+        }
+        final long[] stamp = getStamp(database);
+        final Path snapshotPath = Path.of(SNAPSHOT_FILE);
+        final QuestionSnapshot snapshot = QuestionSnapshot.open(snapshotPath, stamp[0], stamp[1]);
+        if (snapshot != null) {
+            return snapshot.getQuestions();
+        }
 
-                BooleanQuestion question = new BooleanQuestion(prompt, answer);
-                questionList.add(question);
+        final List<Question> questionList = getQuestionsFromDatabase(database);
+        if (!questionList.isEmpty()) {
+            try {
+                QuestionSnapshot.write(questionList, snapshotPath, stamp[0], stamp[1]);
+            } catch (final IOException theException) {
+                theException.printStackTrace();
             }
-            rs.close();
+        }
+        return questionList;
+    }
 
-            rs = stmt.executeQuery(selectTextInput);
-            while (rs.next()) {
-                String prompt = rs.getString("question");
-                String answer = rs.getString("answer");
+    /**
+     * Retrieves a list of questions from the database bundled with the game. The questions
+     * include multiple-choice, boolean, and text-input types, and are all read by a single
+     * query. The database is opened read-only where it is, without copying it anywhere.
+     *
+     * @return a list of questions retrieved from the database
+     */
+    public static List<Question> getQuestionsFromDatabase() {
+        final URL database = QuestionFactory.class.getResource(DATABASE_RESOURCE);
+        if (database == null) {
+            System.out.println("Database resource not found in JAR!");
+            return new ArrayList<>();
+        }
+        return getQuestionsFromDatabase(database);
+    }
 
-                TextInputQuestion question = new TextInputQuestion(prompt, answer);
-                questionList.add(question);
+    /**
+     * Reads every question of a database in the layout of {@link QuestionSchema}.
+     *
+     * @param theConnection the connection to the database.
+     * @return the questions, in the order of their ids.
+     * @throws SQLException if the questions could not be read.
+     */
+    public static List<Question> readQuestions(final Connection theConnection) throws SQLException {
+        final List<Question> questionList = new ArrayList<>();
+        try (PreparedStatement stmt = theConnection.prepareStatement(SELECT_QUESTIONS)) {
+            stmt.setFetchSize(FETCH_SIZE);
+            try (ResultSet rs = stmt.executeQuery()) {
+                readQuestions(rs, questionList);
             }
-            rs.close();
+        }
+        return questionList;
+    }
 
+    /**
+     * Opens the bundled database read-only and reads its questions.
+     *
+     * @param theDatabase the location of the bundled database.
+     * @return the questions, or an empty list if the database could not be read.
+     */
+    private static List<Question> getQuestionsFromDatabase(final URL theDatabase) {
+        final Properties properties = new Properties();
+        properties.setProperty("open_mode", READ_ONLY_OPEN_MODE);
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite::resource:" + theDatabase, properties)) {
+            return readQuestions(conn);
         } catch (final SQLException theException) {
             System.out.println(theException.getMessage());
+            return new ArrayList<>();
         }
-        return questionList;
     }
-}
 
+    /**
+     * Gets the size and modification time of the bundled database, which tell whether a
+     * snapshot was made from it.
+     *
+     * @param theDatabase the location of the bundled database.
+     * @return the size in bytes and the modification time, or -1 for values that are unknown.
+     */
+    private static long[] getStamp(final URL theDatabase) {
+        try {
+            final URLConnection connection = theDatabase.openConnection();
+            final long[] stamp = {connection.getContentLengthLong(), connection.getLastModified()};
+            // a file connection opens the file to find its size, so it has to be closed again
+            connection.getInputStream().close();
+            return stamp;
+        } catch (final IOException theException) {
+            return new long[]{-1, -1};
+        }
+    }
 
+    /**
+     * Reads the rows of SELECT_QUESTIONS. A question has one row per wrong answer, or a single
+     * row without a choice, and the rows of a question are next to each other, so a question is
+     * finished as soon as a row of another question is read.
+     *
+     * @param theRows the rows of the query.
+     * @param theQuestions the list the questions are added to.
+     * @throws SQLException if the rows could not be read.
+     */
+    private static void readQuestions(final ResultSet theRows, final List<Question> theQuestions)
+            throws SQLException {
+        long id = 0;
+        String type = null;
+        String prompt = null;
+        String answer = null;
+        Difficulty difficulty = null;
+        String category = null;
+        List<String> choices = new ArrayList<>();
+        while (theRows.next()) {
+            final long rowId = theRows.getLong("id");
+            if (type == null || rowId != id) {
+                if (type != null) {
+                    addQuestion(theQuestions, type, prompt, answer, difficulty, category, choices);
+                }
+                id = rowId;
+                type = theRows.getString("type");
+                prompt = theRows.getString("prompt");
+                answer = theRows.getString("answer");
+                difficulty = parseDifficulty(theRows.getString("difficulty"));
+                category = theRows.getString("category");
+                choices = new ArrayList<>();
+            }
+            final String choice = theRows.getString("choice");
+            if (choice != null) {
+                choices.add(choice);
+            }
+        }
+        if (type != null) {
+            addQuestion(theQuestions, type, prompt, answer, difficulty, category, choices);
+        }
+    }
 
+    /**
+     * Builds a question from its columns and adds it to the list. Rows of an unknown type are
+     * skipped.
+     *
+     * @param theQuestions the list the question is added to.
+     * @param theType the type column, the name of a QuestionType.
+     * @param thePrompt the prompt of the question.
+     * @param theAnswer the answer of the question.
+     * @param theDifficulty the difficulty of the question.
+     * @param theCategory the category of the question.
+     * @param theChoices the wrong answers, only used by multiple choice questions.
+     */
+    private static void addQuestion(final List<Question> theQuestions, final String theType,
+                                    final String thePrompt, final String theAnswer,
+                                    final Difficulty theDifficulty, final String theCategory,
+                                    final List<String> theChoices) {
+        switch (theType) {
+            case "MULTIPLE_CHOICE" -> theQuestions.add(
+                    new MultipleChoiceQuestion(thePrompt, theAnswer, theChoices, theDifficulty, theCategory));
+            case "BOOLEAN" -> theQuestions.add(
+                    new BooleanQuestion(thePrompt, Boolean.parseBoolean(theAnswer), theDifficulty, theCategory));
+            case "TEXT_INPUT" -> theQuestions.add(
+                    new TextInputQuestion(thePrompt, theAnswer, theDifficulty, theCategory));
+            default -> System.out.println("Skipping question of unknown type " + theType);
+        }
+    }
 
+    /**
+     * Reads the difficulty column, which holds the name of a Difficulty.
+     *
+     * @param theDifficulty the value of the column.
+     * @return the difficulty, or the default difficulty if the value is not one.
+     */
+    private static Difficulty parseDifficulty(final String theDifficulty) {
+        try {
+            return Difficulty.valueOf(theDifficulty);
+        } catch (final IllegalArgumentException | NullPointerException theException) {
+            return Question.DEFAULT_DIFFICULTY;
+        }
+    }
+}
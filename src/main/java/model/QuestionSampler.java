@@ -0,0 +1,192 @@
+package model;
+
+import java.io.Serial;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Draws random questions from a question bank without repeats, without copying or changing the
+ * bank. This is a Fisher-Yates shuffle that is only carried out as far as questions are drawn,
+ * and the swaps it has made are kept in a map instead of a full index array, so drawing k
+ * questions takes O(k) time and memory no matter how large the bank is.
+ * Once every question of the bank has been drawn, a new shuffle is started.
+ * <p>
+ * A saved sampler only keeps its seed and how many questions it has drawn, never the bank, so a
+ * save file grows with the maze rather than with the bank. A sampler over the questions of a
+ * {@link QuestionBank.Filter} saves the filter instead of the selection. After loading, the bank
+ * has to be given back with {@link #attach(QuestionBank)}, which selects the questions again and
+ * replays the draws to restore the shuffle.
+ *
+ * @author Jacob Klymenko
+ * @version 1.0
+ */
+public final class QuestionSampler implements QuestionSource, Iterator<Question> {
+
+    /** The serialVersionUID for this object. */
+    @Serial
+    private static final long serialVersionUID = 2L;
+
+    /** The seed the draws are made with. */
+    private final long mySeed;
+
+    /** The filter the questions were selected with, or null if the sampler draws from a plain list. */
+    private final QuestionBank.Filter myFilter;
+
+    /** The number of questions drawn since the sampler was created, over every shuffle. */
+    private long myTotalDrawn;
+
+    /** The question bank to draw from, null after loading until it is attached again. */
+    private transient List<Question> myBank;
+
+    /** The random number generator the draws are made with. */
+    private transient Random myRandom;
+
+    /** The positions of the shuffle that have been swapped, and the bank index they now hold. */
+    private transient Map<Integer, Integer> mySwaps;
+
+    /** The number of questions drawn in the current shuffle. */
+    private transient int myDrawn;
+
+    /**
+     * Creates a sampler over a question bank. The bank is not copied, so it should not be
+     * changed while the sampler is in use.
+     *
+     * @param theBank the questions to draw from, at least one.
+     * @param theRandom the random number generator the seed of the draws is taken from.
+     */
+    public QuestionSampler(final List<Question> theBank, final Random theRandom) {
+        this(theBank, theRandom.nextLong());
+    }
+
+    /**
+     * Creates a sampler over a question bank. The bank is not copied, so it should not be
+     * changed while the sampler is in use.
+     *
+     * @param theBank the questions to draw from, at least one.
+     * @param theSeed the seed of the draws, the same seed and bank give the same questions.
+     */
+    public QuestionSampler(final List<Question> theBank, final long theSeed) {
+        mySeed = theSeed;
+        myFilter = null;
+        attach(theBank);
+    }
+
+    /**
+     * Creates a sampler over the questions of a bank that a filter allows.
+     *
+     * @param theBank the bank to select from.
+     * @param theFilter the filter choosing the questions, which has to allow at least one.
+     * @param theSeed the seed of the draws, the same seed, bank and filter give the same questions.
+     */
+    public QuestionSampler(final QuestionBank theBank, final QuestionBank.Filter theFilter, final long theSeed) {
+        mySeed = theSeed;
+        myFilter = theFilter;
+        attach(theBank.select(theFilter));
+    }
+
+    /**
+     * Gives the sampler its bank, after it was loaded from a save. The draws made before saving
+     * are replayed, which takes time in the number of questions drawn, so the sampler carries on
+     * exactly where it stopped as long as the bank holds the same questions in the same order.
+     *
+     * @param theBank the questions to draw from, at least one.
+     */
+    public void attach(final List<Question> theBank) {
+        if (theBank.isEmpty()) {
+            throw new IllegalArgumentException("A question sampler needs at least one question");
+        }
+        myBank = theBank;
+        myRandom = new Random(mySeed);
+        mySwaps = new HashMap<>();
+        myDrawn = 0;
+        for (long i = 0; i < myTotalDrawn; i++) {
+            if (!hasNext()) {
+                startShuffle();
+            }
+            draw();
+        }
+    }
+
+    @Override
+    public void attach(final QuestionBank theBank) {
+        attach(myFilter == null ? theBank.getQuestions() : theBank.select(myFilter));
+    }
+
+    /**
+     * Gets whether the current shuffle still has questions that have not been drawn.
+     *
+     * @return whether a question can be drawn without a repeat.
+     */
+    @Override
+    public boolean hasNext() {
+        checkAttached();
+        return myDrawn < myBank.size();
+    }
+
+    /**
+     * Draws a question that has not been drawn in the current shuffle.
+     *
+     * @return the question.
+     * @throws NoSuchElementException if every question of the shuffle has been drawn.
+     */
+    @Override
+    public Question next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Every question of the bank has been drawn");
+        }
+        myTotalDrawn++;
+        return draw();
+    }
+
+    /**
+     * Draws the next question, starting a new shuffle of the whole bank if the current one
+     * has run out.
+     *
+     * @return the question.
+     */
+    @Override
+    public Question nextQuestion() {
+        if (!hasNext()) {
+            startShuffle();
+        }
+        return next();
+    }
+
+    /**
+     * Takes one more step of the shuffle.
+     *
+     * @return the question at the chosen position.
+     */
+    private Question draw() {
+        final int position = myDrawn++;
+        final int chosen = position + myRandom.nextInt(myBank.size() - position);
+        final int chosenIndex = mySwaps.getOrDefault(chosen, chosen);
+        // the position is never looked at again, only the chosen slot has to remember the swap
+        mySwaps.put(chosen, mySwaps.getOrDefault(position, position));
+        mySwaps.remove(position);
+        return myBank.get(chosenIndex);
+    }
+
+    /**
+     * Starts a new shuffle of the whole bank.
+     */
+    private void startShuffle() {
+        myDrawn = 0;
+        mySwaps.clear();
+    }
+
+    /**
+     * Checks that the sampler has a bank to draw from.
+     *
+     * @throws IllegalStateException if the sampler was loaded and not attached to a bank.
+     */
+    private void checkAttached() {
+        if (myBank == null) {
+            throw new IllegalStateException("The question bank has to be attached after loading");
+        }
+    }
+}
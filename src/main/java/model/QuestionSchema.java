@@ -0,0 +1,185 @@
+package model;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import model.QuestionEnums.QuestionType;
+
+/**
+ * Creates the tables of the question database and moves questions into them from the older
+ * layout. Every question is a row of the question table, whose type column tells which kind of
+ * question it is, and the wrong answers of multiple choice questions are rows of the
+ * question_choice table. The older layout had a table per kind of question:
+ * multiple_choice_question, boolean_question and text_input_question. The tables are set up once
+ * by the DataImporter, the game itself only reads them.
+ *
+ * @author Mathew Miller
+ * @version 1.0
+ */
+public final class QuestionSchema {
+
+    /** The statement creating the table of questions. */
+    private static final String CREATE_QUESTION_TABLE = """
+            CREATE TABLE IF NOT EXISTS question
+            (
+                id         INTEGER PRIMARY KEY,
+                type       TEXT NOT NULL CHECK (type IN ('MULTIPLE_CHOICE', 'BOOLEAN', 'TEXT_INPUT')),
+                prompt     TEXT NOT NULL,
+                answer     TEXT NOT NULL,
+                difficulty TEXT NOT NULL DEFAULT 'MEDIUM',
+                category   TEXT NOT NULL DEFAULT 'General'
+            );
+            """;
+
+    /** The statement creating the table of the wrong answers of multiple choice questions. */
+    private static final String CREATE_CHOICE_TABLE = """
+            CREATE TABLE IF NOT EXISTS question_choice
+            (
+                question_id INTEGER NOT NULL REFERENCES question (id) ON DELETE CASCADE,
+                position    INTEGER NOT NULL,
+                choice      TEXT NOT NULL,
+                PRIMARY KEY (question_id, position)
+            );
+            """;
+
+    /** The statement adding a question. */
+    private static final String INSERT_QUESTION =
+            "INSERT INTO question (type, prompt, answer) VALUES (?, ?, ?)";
+
+    /** The statement adding a wrong answer of a multiple choice question. */
+    private static final String INSERT_CHOICE =
+            "INSERT INTO question_choice (question_id, position, choice) VALUES (?, ?, ?)";
+
+    /** The number of wrong answers in each row of the older multiple choice table. */
+    private static final int LEGACY_WRONG_ANSWERS = 3;
+
+    /** Private constructor to prevent instantiation. */
+    private QuestionSchema() { /* do nothing */ }
+
+    /**
+     * Creates the question and question_choice tables if they do not exist yet.
+     *
+     * @param theConnection the connection to the database.
+     * @throws SQLException if the tables could not be created.
+     */
+    public static void createTables(final Connection theConnection) throws SQLException {
+        try (Statement stmt = theConnection.createStatement()) {
+            stmt.executeUpdate(CREATE_QUESTION_TABLE);
+            stmt.executeUpdate(CREATE_CHOICE_TABLE);
+        }
+    }
+
+    /**
+     * Copies the questions of the older per-type tables into the question tables, in a single
+     * transaction. Nothing is copied when the question table already holds questions, so running
+     * it a second time does nothing. The older tables are left as they are.
+     *
+     * @param theConnection the connection to the database.
+     * @return the number of questions copied.
+     * @throws SQLException if the questions could not be copied.
+     */
+    public static int migrateLegacyTables(final Connection theConnection) throws SQLException {
+        try (Statement stmt = theConnection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT EXISTS (SELECT 1 FROM question)")) {
+            if (rs.next() && rs.getBoolean(1)) {
+                return 0;
+            }
+        }
+
+        final boolean autoCommit = theConnection.getAutoCommit();
+        theConnection.setAutoCommit(false);
+        try (PreparedStatement insertQuestion =
+                     theConnection.prepareStatement(INSERT_QUESTION, Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement insertChoice = theConnection.prepareStatement(INSERT_CHOICE);
+             Statement stmt = theConnection.createStatement()) {
+            int migrated = 0;
+            if (hasTable(theConnection, "multiple_choice_question")) {
+                try (ResultSet rs = stmt.executeQuery("SELECT question, answer, wrong_answer_1,"
+                        + " wrong_answer_2, wrong_answer_3 FROM multiple_choice_question ORDER BY rowid")) {
+                    while (rs.next()) {
+                        final long id = insertQuestion(insertQuestion, QuestionType.MULTIPLE_CHOICE,
+                                rs.getString("question"), rs.getString("answer"));
+                        for (int position = 1; position <= LEGACY_WRONG_ANSWERS; position++) {
+                            insertChoice.setLong(1, id);
+                            insertChoice.setInt(2, position);
+                            insertChoice.setString(3, rs.getString("wrong_answer_" + position));
+                            insertChoice.addBatch();
+                        }
+                        migrated++;
+                    }
+                }
+                insertChoice.executeBatch();
+            }
+            if (hasTable(theConnection, "boolean_question")) {
+                try (ResultSet rs = stmt.executeQuery(
+                        "SELECT question, answer FROM boolean_question ORDER BY rowid")) {
+                    while (rs.next()) {
+                        insertQuestion(insertQuestion, QuestionType.BOOLEAN,
+                                rs.getString("question"), Boolean.toString(rs.getBoolean("answer")));
+                        migrated++;
+                    }
+                }
+            }
+            if (hasTable(theConnection, "text_input_question")) {
+                try (ResultSet rs = stmt.executeQuery(
+                        "SELECT question, answer FROM text_input_question ORDER BY rowid")) {
+                    while (rs.next()) {
+                        insertQuestion(insertQuestion, QuestionType.TEXT_INPUT,
+                                rs.getString("question"), rs.getString("answer"));
+                        migrated++;
+                    }
+                }
+            }
+            theConnection.commit();
+            return migrated;
+        } catch (final SQLException theException) {
+            theConnection.rollback();
+            throw theException;
+        } finally {
+            theConnection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Adds a question and gets the id it was given.
+     *
+     * @param theStatement the prepared INSERT_QUESTION statement.
+     * @param theType the type of the question.
+     * @param thePrompt the prompt of the question.
+     * @param theAnswer the answer of the question.
+     * @return the id of the new row.
+     * @throws SQLException if the question could not be added.
+     */
+    private static long insertQuestion(final PreparedStatement theStatement, final QuestionType theType,
+                                       final String thePrompt, final String theAnswer) throws SQLException {
+        theStatement.setString(1, theType.name());
+        theStatement.setString(2, thePrompt);
+        theStatement.setString(3, theAnswer);
+        theStatement.executeUpdate();
+        try (ResultSet keys = theStatement.getGeneratedKeys()) {
+            if (!keys.next()) {
+                throw new SQLException("No id was given to the question " + thePrompt);
+            }
+            return keys.getLong(1);
+        }
+    }
+
+    /**
+     * Gets whether the database has a table of the given name.
+     *
+     * @param theConnection the connection to the database.
+     * @param theTable the name of the table.
+     * @return whether the table exists.
+     * @throws SQLException if the database could not be read.
+     */
+    private static boolean hasTable(final Connection theConnection, final String theTable) throws SQLException {
+        final DatabaseMetaData metaData = theConnection.getMetaData();
+        try (ResultSet rs = metaData.getTables(null, null, theTable, new String[]{"TABLE"})) {
+            return rs.next();
+        }
+    }
+}
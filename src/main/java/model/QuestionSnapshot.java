@@ -0,0 +1,386 @@
+package model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import model.QuestionEnums.Difficulty;
+
+import static model.QuestionEnums.DIFFICULTIES;
+
+/**
+ * A compact binary copy of the question database, so the questions can be read at startup
+ * without opening SQLite. The file starts with a header holding the size and modification time
+ * of the database it was made from, followed by one section per question type. Each section is
+ * an index of record offsets followed by the records. A record starts with the prompt, difficulty
+ * and category of its question, and every string is stored as its length in bytes followed by its
+ * UTF-8 encoding. After the sections comes an order index, holding the section and record offset
+ * of every question in the order they were written, so the questions are read back in the order
+ * of the database. The file is memory mapped when opened, and a question is only decoded when it
+ * is asked for.
+ *
+ * @author Mathew Miller
+ * @version 1.0
+ */
+public final class QuestionSnapshot {
+
+    /** The section holding the multiple choice questions, at the ordinal of their QuestionType. */
+    public static final int MULTIPLE_CHOICE = 0;
+
+    /** The section holding the boolean questions. */
+    public static final int BOOLEAN = 1;
+
+    /** The section holding the text input questions. */
+    public static final int TEXT_INPUT = 2;
+
+    /** The number of sections, one per question type. */
+    private static final int SECTION_COUNT = 3;
+
+    /** The first bytes of every snapshot, "QSNP". */
+    private static final int MAGIC = 0x51534E50;
+
+    /** The version of the format, changed whenever the layout changes. */
+    private static final int VERSION = 3;
+
+    /**
+     * The size of the header: magic, version, source size and time, a count and index offset per
+     * section, then the offset of the order index.
+     */
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + SECTION_COUNT * (4 + 4) + 4;
+
+    /** The size of an entry of the order index: the record offset, then the section. */
+    private static final int ORDER_ENTRY_SIZE = Integer.BYTES + 1;
+
+    /** The length stored for a null string. */
+    private static final int NULL_LENGTH = -1;
+
+    /** The mapped contents of the snapshot. */
+    private final MappedByteBuffer myBuffer;
+
+    /** The number of questions in each section. */
+    private final int[] myCounts;
+
+    /** The position of the record offset index of each section. */
+    private final int[] myIndexPositions;
+
+    /** The position of the order index. */
+    private final int myOrderPosition;
+
+    /** The number of questions in the snapshot. */
+    private final int mySize;
+
+    /**
+     * Creates a snapshot over a mapped file whose header was already checked.
+     *
+     * @param theBuffer the mapped contents of the snapshot.
+     * @param theCounts the number of questions in each section.
+     * @param theIndexPositions the position of the offset index of each section.
+     * @param theOrderPosition the position of the order index.
+     */
+    private QuestionSnapshot(final MappedByteBuffer theBuffer, final int[] theCounts,
+                             final int[] theIndexPositions, final int theOrderPosition) {
+        myBuffer = theBuffer;
+        myCounts = theCounts;
+        myIndexPositions = theIndexPositions;
+        myOrderPosition = theOrderPosition;
+        mySize = theCounts[MULTIPLE_CHOICE] + theCounts[BOOLEAN] + theCounts[TEXT_INPUT];
+    }
+
+    /**
+     * Opens a snapshot, if it exists and was made from a database of the given size and
+     * modification time. The header is read first so a stale file is never mapped.
+     *
+     * @param thePath the path of the snapshot.
+     * @param theSourceSize the size in bytes of the current database.
+     * @param theSourceModified the modification time of the current database.
+     * @return the opened snapshot, or null if it is missing, stale or malformed.
+     */
+    public static QuestionSnapshot open(final Path thePath, final long theSourceSize,
+                                        final long theSourceModified) {
+        try (FileChannel channel = FileChannel.open(thePath, StandardOpenOption.READ)) {
+            final long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                return null;
+            }
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is full
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE
+                    || header.getInt() != MAGIC || header.getInt() != VERSION
+                    || header.getLong() != theSourceSize || header.getLong() != theSourceModified) {
+                return null;
+            }
+            final int[] counts = new int[SECTION_COUNT];
+            final int[] indexPositions = new int[SECTION_COUNT];
+            long size = 0;
+            for (int section = 0; section < SECTION_COUNT; section++) {
+                counts[section] = header.getInt();
+                indexPositions[section] = header.getInt();
+                if (counts[section] < 0 || indexPositions[section] < HEADER_SIZE
+                        || indexPositions[section] + (long) counts[section] * Integer.BYTES > fileSize) {
+                    return null;
+                }
+                size += counts[section];
+            }
+            final int orderPosition = header.getInt();
+            if (orderPosition < HEADER_SIZE || orderPosition + size * ORDER_ENTRY_SIZE > fileSize) {
+                return null;
+            }
+            return new QuestionSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize),
+                    counts, indexPositions, orderPosition);
+        } catch (final NoSuchFileException theException) {
+            return null;
+        } catch (final IOException theException) {
+            System.out.println("Problem with question snapshot loading: " + theException);
+            return null;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the given questions. The file is written next to its final place and
+     * then moved over it, so a snapshot that is being read is never half written.
+     *
+     * @param theQuestions the questions to store.
+     * @param thePath the path of the snapshot.
+     * @param theSourceSize the size in bytes of the database the questions came from.
+     * @param theSourceModified the modification time of the database the questions came from.
+     * @throws IOException if the file could not be written.
+     */
+    public static void write(final List<Question> theQuestions, final Path thePath,
+                             final long theSourceSize, final long theSourceModified) throws IOException {
+        final ByteArrayOutputStream[] records = new ByteArrayOutputStream[SECTION_COUNT];
+        final List<List<Integer>> offsets = new ArrayList<>();
+        for (int section = 0; section < SECTION_COUNT; section++) {
+            records[section] = new ByteArrayOutputStream();
+            offsets.add(new ArrayList<>());
+        }
+        final int[] order = new int[theQuestions.size()];
+        int next = 0;
+        for (final Question question : theQuestions) {
+            final int section = sectionOf(question);
+            order[next++] = section;
+            offsets.get(section).add(records[section].size());
+            writeRecord(new DataOutputStream(records[section]), question);
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(theSourceSize);
+        out.writeLong(theSourceModified);
+        int position = HEADER_SIZE;
+        for (int section = 0; section < SECTION_COUNT; section++) {
+            out.writeInt(offsets.get(section).size());
+            out.writeInt(position);
+            position += offsets.get(section).size() * Integer.BYTES + records[section].size();
+        }
+        out.writeInt(position);
+        final int[] recordStarts = new int[SECTION_COUNT];
+        for (int section = 0; section < SECTION_COUNT; section++) {
+            recordStarts[section] = out.size() + offsets.get(section).size() * Integer.BYTES;
+            for (final int offset : offsets.get(section)) {
+                out.writeInt(recordStarts[section] + offset);
+            }
+            records[section].writeTo(out);
+        }
+        // the questions of each section were written in order, so the next one of a section is its next offset
+        final int[] written = new int[SECTION_COUNT];
+        for (final int section : order) {
+            out.writeInt(recordStarts[section] + offsets.get(section).get(written[section]++));
+            out.writeByte(section);
+        }
+        out.flush();
+
+        final Path temporary = thePath.resolveSibling(thePath.getFileName() + ".tmp");
+        Files.write(temporary, bytes.toByteArray());
+        Files.move(temporary, thePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Gets the number of questions in a section.
+     *
+     * @param theSection the section, one of the section constants of this class.
+     * @return the number of questions.
+     */
+    public int getCount(final int theSection) {
+        return myCounts[theSection];
+    }
+
+    /**
+     * Gets the number of questions in the snapshot.
+     *
+     * @return the number of questions.
+     */
+    public int size() {
+        return mySize;
+    }
+
+    /**
+     * Decodes a single question, found through the offset index of its section.
+     *
+     * @param theSection the section, one of the section constants of this class.
+     * @param theIndex the index of the question within the section.
+     * @return the decoded question.
+     */
+    public Question getQuestion(final int theSection, final int theIndex) {
+        if (theIndex < 0 || theIndex >= myCounts[theSection]) {
+            throw new IndexOutOfBoundsException("No question " + theIndex + " in section " + theSection);
+        }
+        return readRecord(theSection, myBuffer.getInt(myIndexPositions[theSection] + theIndex * Integer.BYTES));
+    }
+
+    /**
+     * Decodes a single question, found through the order index.
+     *
+     * @param theIndex the position of the question in the order it was written.
+     * @return the decoded question.
+     */
+    public Question getQuestion(final int theIndex) {
+        if (theIndex < 0 || theIndex >= mySize) {
+            throw new IndexOutOfBoundsException("Index " + theIndex + " out of " + mySize + " questions");
+        }
+        final int entry = myOrderPosition + theIndex * ORDER_ENTRY_SIZE;
+        return readRecord(myBuffer.get(entry + Integer.BYTES), myBuffer.getInt(entry));
+    }
+
+    /**
+     * Gets the questions in the order they were written, which is the order of the database.
+     * The list is a view over the mapped file, a question is decoded each time it is asked for.
+     *
+     * @return an unmodifiable list of the questions.
+     */
+    public List<Question> getQuestions() {
+        return new QuestionList();
+    }
+
+    /**
+     * Decodes the record of a question.
+     *
+     * @param theSection the section the record is in.
+     * @param thePosition the position of the record in the file.
+     * @return the decoded question.
+     */
+    private Question readRecord(final int theSection, final int thePosition) {
+        final ByteBuffer record = myBuffer.duplicate();
+        record.position(thePosition);
+        final String prompt = readString(record);
+        final Difficulty difficulty = DIFFICULTIES[record.get()];
+        final String category = readString(record);
+        return switch (theSection) {
+            case MULTIPLE_CHOICE -> {
+                final String answer = readString(record);
+                final int wrongCount = record.getShort();
+                final List<String> wrongAnswers = new ArrayList<>(wrongCount + 1);
+                for (int i = 0; i < wrongCount; i++) {
+                    wrongAnswers.add(readString(record));
+                }
+                yield new MultipleChoiceQuestion(prompt, answer, wrongAnswers, difficulty, category);
+            }
+            case BOOLEAN -> new BooleanQuestion(prompt, record.get() != 0, difficulty, category);
+            case TEXT_INPUT -> new TextInputQuestion(prompt, readString(record), difficulty, category);
+            default -> throw new IllegalArgumentException("Unknown question section " + theSection);
+        };
+    }
+
+    /**
+     * Gets the section a question is stored in.
+     *
+     * @param theQuestion the question.
+     * @return the section of its type.
+     */
+    private static int sectionOf(final Question theQuestion) {
+        return theQuestion.getType().ordinal();
+    }
+
+    /**
+     * Writes the record of a question.
+     *
+     * @param theOut the stream of its section.
+     * @param theQuestion the question.
+     * @throws IOException if the record could not be written.
+     */
+    private static void writeRecord(final DataOutputStream theOut, final Question theQuestion) throws IOException {
+        writeString(theOut, theQuestion.getPrompt());
+        theOut.writeByte(theQuestion.getDifficulty().ordinal());
+        writeString(theOut, theQuestion.getCategory());
+        if (theQuestion instanceof MultipleChoiceQuestion multipleChoice) {
+            // the possible answers hold the answer once, everything else is a wrong answer
+            final List<String> wrongAnswers = new ArrayList<>(multipleChoice.getPossibleAnswers());
+            wrongAnswers.remove(multipleChoice.getAnswer());
+            writeString(theOut, multipleChoice.getAnswer());
+            theOut.writeShort(wrongAnswers.size());
+            for (final String wrongAnswer : wrongAnswers) {
+                writeString(theOut, wrongAnswer);
+            }
+        } else if (theQuestion instanceof BooleanQuestion) {
+            theOut.writeByte(Boolean.parseBoolean(theQuestion.getAnswer()) ? 1 : 0);
+        } else {
+            writeString(theOut, theQuestion.getAnswer());
+        }
+    }
+
+    /**
+     * Writes a string as its length in bytes followed by its UTF-8 encoding.
+     *
+     * @param theOut the stream to write to.
+     * @param theString the string, may be null.
+     * @throws IOException if the string could not be written.
+     */
+    private static void writeString(final DataOutputStream theOut, final String theString) throws IOException {
+        if (theString == null) {
+            theOut.writeInt(NULL_LENGTH);
+            return;
+        }
+        final byte[] utf8 = theString.getBytes(StandardCharsets.UTF_8);
+        theOut.writeInt(utf8.length);
+        theOut.write(utf8);
+    }
+
+    /**
+     * Reads a string written by writeString, moving the buffer past it.
+     *
+     * @param theBuffer the buffer positioned at the string.
+     * @return the string, or null if a null string was stored.
+     */
+    private static String readString(final ByteBuffer theBuffer) {
+        final int length = theBuffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final byte[] utf8 = new byte[length];
+        theBuffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The questions of the snapshot seen as a list, decoding a question by its position.
+     */
+    private final class QuestionList extends AbstractList<Question> implements RandomAccess {
+
+        @Override
+        public Question get(final int theIndex) {
+            return getQuestion(theIndex);
+        }
+
+        @Override
+        public int size() {
+            return mySize;
+        }
+    }
+}
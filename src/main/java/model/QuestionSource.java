@@ -0,0 +1,29 @@
+package model;
+
+import java.io.Serializable;
+
+/**
+ * Hands out the questions of a maze one at a time, as rooms become answerable.
+ * A source is saved along with its maze, so a loaded game keeps drawing from where it stopped.
+ * Sources do not save the questions they draw from, so a loaded source has to be attached to
+ * the question bank again before it is used.
+ *
+ * @author Jacob Klymenko
+ * @version 1.0
+ */
+public interface QuestionSource extends Serializable {
+
+    /**
+     * Gets the next question to give to a room.
+     *
+     * @return the next question.
+     */
+    Question nextQuestion();
+
+    /**
+     * Gives the source the questions it draws from again, after it was loaded from a save.
+     *
+     * @param theBank the loaded question bank.
+     */
+    void attach(QuestionBank theBank);
+}
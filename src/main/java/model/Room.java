@@ -3,12 +3,14 @@ package model;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.*;
+import java.util.random.RandomGenerator;
 import static model.RoomEnums.*;
 import static model.RoomEnums.RoomArrayValues.ROOM_FILL;
 import static model.RoomEnums.RoomArrayValues.ROOM_HIGHLIGHT;
 
 /**
  * Class that models functionality of the rooms of a maze.
+ * A room is a view onto one cell of a {@link RoomGrid}, so it holds no state of its own.
  *
  * @author Mathew Miller
  * @author Cai Spidel
@@ -18,22 +20,13 @@ public final class Room implements Serializable {
 
     /** The serialVersionUID for this object. */
     @Serial
-    private static final long serialVersionUID = 3L;
+    private static final long serialVersionUID = 4L;
 
-    /** The question that locks this room. */
-    private final Question myQuestion;
+    /** The grid that holds the state of this room. */
+    private final RoomGrid myGrid;
 
-    /** The image representation of this room, stored in render order and with the file locations. */
-    private final RoomInfo[] myNESWRoom;
-
-    /** a int that tracks the correct fill of this room.  */
-    private final int myFillNum;
-
-    /** Tracks the visibility status of this room, 0 is fully visible, 1 is partially visible, 2 is not visible. */
-    private Visibility myVisibility;
-
-    /** Holds whether this room is an endpoint.  */
-    private boolean myIsEndpoint = false;
+    /** The index of this room in the grid. */
+    private final int myIndex;
 
     /**
      * Creates a Room with custom values.
@@ -41,49 +34,45 @@ public final class Room implements Serializable {
      * @param theQuestion the question to be asked.
      */
     public Room(final Question theQuestion) {
-        myQuestion = theQuestion;
-
-        myVisibility = Visibility.MYSTERY;
+        this(theQuestion, new SplittableRandom());
+    }
 
-        Random random = new Random();
-        myFillNum = random.nextInt(ROOM_INFOS.length - ROOM_INFO_FILL_START) + ROOM_INFO_FILL_START;
+    /**
+     * Creates a Room with custom values.
+     *
+     * @param theQuestion the question to be asked.
+     * @param theRandom the random number generator that picks the fill of the room.
+     */
+    public Room(final Question theQuestion, final RandomGenerator theRandom) {
+        this(new RoomGrid(1, 1), 0);
 
-        myNESWRoom = new RoomInfo[ROOM_ARRAY_VALUES.length];
-        setHigLig(false);
+        myGrid.setFill(myIndex, ROOM_INFOS[theRandom.nextInt(ROOM_INFOS.length - ROOM_INFO_FILL_START)
+                + ROOM_INFO_FILL_START]);
+        myGrid.setQuestion(myIndex, theQuestion);
 
         for(int i = 0; i < 4; i++) {
             setDoor(DOOR_DIRECTIONS[i], true);
         }
-
-        updateRoomInfo();
-
     }
 
     /**
-     * Sets the highlight status of this room.
+     * Creates a Room that views a cell of a grid.
      *
-     * @param theHigLigStatus whether the room is highlighted or not.
+     * @param theGrid the grid that holds the state of the room.
+     * @param theIndex the index of the room in the grid.
      */
-    public void setHigLig(final boolean theHigLigStatus) {
-        if(theHigLigStatus) {
-            myNESWRoom[ROOM_HIGHLIGHT.ordinal()] = RoomInfo.WITH_HIGHLIGHT;
-        } else {
-            myNESWRoom[ROOM_HIGHLIGHT.ordinal()] = RoomInfo.NO_HIGHLIGHT;
-        }
+    Room(final RoomGrid theGrid, final int theIndex) {
+        myGrid = theGrid;
+        myIndex = theIndex;
     }
 
-
     /**
-     * sets the visual room info.
+     * Sets the highlight status of this room.
+     *
+     * @param theHigLigStatus whether the room is highlighted or not.
      */
-    private void updateRoomInfo() {
-        if(myVisibility == Visibility.VISIBLE) {
-            myNESWRoom[ROOM_FILL.ordinal()] = ROOM_INFOS[myFillNum];
-        } else if(myVisibility == Visibility.LOCKED && myNESWRoom[ROOM_FILL.ordinal()] != RoomInfo.PERM_LOCKED) {
-            myNESWRoom[ROOM_FILL.ordinal()] = RoomInfo.LOCKED;
-        } else if (myVisibility == Visibility.MYSTERY) {
-            myNESWRoom[ROOM_FILL.ordinal()] = RoomInfo.MYSTERY;
-        }
+    public void setHigLig(final boolean theHigLigStatus) {
+        myGrid.setHighlighted(myIndex, theHigLigStatus);
     }
 
     /**
@@ -94,7 +83,7 @@ public final class Room implements Serializable {
      * @param theDoor the state of the door.
      */
     public void setDoor(final DoorDirection theNESW, final boolean theDoor) {
-        myNESWRoom[RoomEnums.doorDirToArrayVal(theNESW)] = RoomEnums.doorDirToRoomInfo(theNESW, theDoor);
+        myGrid.setDoor(myIndex, theNESW, theDoor);
     }
 
 
@@ -104,9 +93,7 @@ public final class Room implements Serializable {
      * @return the value of if there is a door.
      */
     public boolean getHasNESWDoor(DoorDirection theNESW) {
-        RoomInfo result = RoomEnums.doorDirToRoomInfo(theNESW, true);
-
-        return myNESWRoom[RoomEnums.doorDirToArrayVal(theNESW)] == result;
+        return myGrid.isDoorOpen(myIndex, theNESW);
     }
 
     /**
@@ -115,18 +102,17 @@ public final class Room implements Serializable {
      * @return whether this room is visible.
      */
     public boolean isVisible() {
-        return myVisibility == Visibility.VISIBLE;
+        return myGrid.getVisibility(myIndex) == Visibility.VISIBLE;
     }
 
     /**
      * Returns whether it is possible to answer the question to this room.
-     * It is answerable if the room status is "locked",
-     * AND it is NOT permanently locked.
+     * It is answerable if the room status is "locked".
      *
      * @return whether you can answer the question.
      */
     public boolean isAnswerable() {
-        return myVisibility == Visibility.LOCKED && !(myNESWRoom[ROOM_FILL.ordinal()] == RoomInfo.PERM_LOCKED);
+        return myGrid.getVisibility(myIndex) == Visibility.LOCKED;
     }
 
     /**
@@ -135,11 +121,14 @@ public final class Room implements Serializable {
      * @return the room information through the enums RoomInfo.
      */
     public RoomInfo[] getRoomInfo() {
-        updateRoomInfo();
-        RoomInfo[] result = myNESWRoom.clone();
-        if(result[ROOM_FILL.ordinal()] == RoomInfo.LOCKED && this.isEndpoint()) {
-            result[ROOM_FILL.ordinal()] = RoomInfo.ENDPOINT_LOCKED;
+        RoomInfo[] result = new RoomInfo[ROOM_ARRAY_VALUES.length];
+        result[ROOM_FILL.ordinal()] = myGrid.getShownFill(myIndex);
+        for (DoorDirection direction : DOOR_DIRECTIONS) {
+            result[RoomEnums.doorDirToArrayVal(direction)] =
+                    RoomEnums.doorDirToRoomInfo(direction, getHasNESWDoor(direction));
         }
+        result[ROOM_HIGHLIGHT.ordinal()] =
+                myGrid.isHighlighted(myIndex) ? RoomInfo.WITH_HIGHLIGHT : RoomInfo.NO_HIGHLIGHT;
         return result;
     }
 
@@ -152,8 +141,8 @@ public final class Room implements Serializable {
      * @return whether the answer is correct or not.
      */
     public boolean checkAnswer(final String thePossibleAnswer) {
-        if(myQuestion.checkAnswer(thePossibleAnswer)) {
-            myVisibility = Visibility.VISIBLE;
+        if(getQuestion().checkAnswer(thePossibleAnswer)) {
+            setVisibility(Visibility.VISIBLE);
         }
         return isVisible();
     }
@@ -162,7 +151,7 @@ public final class Room implements Serializable {
      * Sets this room to be an endpoint.
      */
     public void setAsEndpoint() {
-        myIsEndpoint = true;
+        myGrid.setEndpoint(myIndex);
     }
 
     /**
@@ -172,7 +161,7 @@ public final class Room implements Serializable {
      * @param theVisibility the visibility level.
      */
     public void setVisibility(final Visibility theVisibility) {
-        myVisibility = theVisibility;
+        myGrid.setVisibility(myIndex, theVisibility);
     }
 
     /**
@@ -181,7 +170,7 @@ public final class Room implements Serializable {
      * @return whether this room is an endpoint.
      */
     public boolean isEndpoint() {
-        return myIsEndpoint;
+        return myGrid.isEndpoint(myIndex);
     }
 
     /**
@@ -190,7 +179,7 @@ public final class Room implements Serializable {
      * @return the question contained in the room.
      */
     public Question getQuestion() {
-        return myQuestion;
+        return myGrid.getQuestion(myIndex);
     }
 
     /**
@@ -199,6 +188,34 @@ public final class Room implements Serializable {
      * @return true if the visibility is MYSTERY, false otherwise
      */
     public boolean isMystery() {
-        return myVisibility == Visibility.MYSTERY;
+        return myGrid.getVisibility(myIndex) == Visibility.MYSTERY;
+    }
+
+    /**
+     * Gets the index of this room in its grid.
+     *
+     * @return the index of this room.
+     */
+    int getIndex() {
+        return myIndex;
+    }
+
+    /**
+     * Gets the grid that holds the state of this room.
+     *
+     * @return the grid of this room.
+     */
+    RoomGrid getGrid() {
+        return myGrid;
+    }
+
+    @Override
+    public boolean equals(final Object theOther) {
+        return theOther instanceof Room other && other.myGrid == myGrid && other.myIndex == myIndex;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(myGrid) + myIndex;
     }
 }
@@ -0,0 +1,397 @@
+package model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import model.RoomEnums.*;
+
+import static model.RoomEnums.ROOM_INFOS;
+import static model.RoomEnums.ROOM_INFO_FILL_START;
+import static model.RoomEnums.VISIBILITIES;
+
+/**
+ * Stores the state of every room of a maze in flat primitive arrays, one entry per cell.
+ * Cells are addressed by their row-major index, and {@link Room} objects are only thin views
+ * onto a cell of this grid.
+ *
+ * @author Cai Spidel
+ * @author Mathew Miller
+ * @version 1.0
+ */
+public final class RoomGrid implements Serializable {
+
+    /** The serialVersionUID for this object. */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** The question id stored for cells that do not hold a question. */
+    public static final int NO_QUESTION = -1;
+
+    /** The bits of a state byte that hold the visibility ordinal. */
+    private static final int VISIBILITY_MASK = 0b11;
+
+    /** The shift of the fill offset inside a state byte. */
+    private static final int FILL_SHIFT = 2;
+
+    /** The bits of a state byte that hold the fill offset, once shifted. */
+    private static final int FILL_MASK = 0b111;
+
+    /** The state bit that is set when the cell is highlighted. */
+    private static final int HIGHLIGHT_BIT = 1 << 5;
+
+    /** The state bit that is set when the cell is an endpoint. */
+    private static final int ENDPOINT_BIT = 1 << 6;
+
+    /** The number of rows in this grid. */
+    private final int myRows;
+
+    /** The number of columns in this grid. */
+    private final int myCols;
+
+    /** The index offset to the neighbouring cell in each direction, in DOOR_DIRECTIONS order. */
+    private final int[] myNeighbourOffsets;
+
+    /** The open doors of each cell, bit i is set when the door of DOOR_DIRECTIONS[i] is open. */
+    private final byte[] myDoors;
+
+    /** The visibility, fill, highlight and endpoint status of each cell packed into a byte. */
+    private final byte[] myStates;
+
+    /** The id of the question of each cell, an index into myQuestions. */
+    private final int[] myQuestionIds;
+
+    /** The questions referenced by the question ids. */
+    private final List<Question> myQuestions;
+
+    /** The cells changed since the dirty cells were last taken, null once too many have changed. */
+    private transient int[] myDirtyCells;
+
+    /** The number of entries in myDirtyCells. */
+    private transient int myDirtyCount;
+
+    /**
+     * Creates a grid where every cell is a MYSTERY room with all doors closed and no question.
+     *
+     * @param theRows the number of rows.
+     * @param theCols the number of columns.
+     */
+    public RoomGrid(final int theRows, final int theCols) {
+        if (theRows <= 0 || theCols <= 0) {
+            throw new IllegalArgumentException("A grid needs at least one row and one column");
+        }
+        final int size = Math.multiplyExact(theRows, theCols);
+        myRows = theRows;
+        myCols = theCols;
+        myNeighbourOffsets = new int[]{-theCols, 1, theCols, -1};
+        myDoors = new byte[size];
+        myStates = new byte[size];
+        Arrays.fill(myStates, (byte) Visibility.MYSTERY.ordinal());
+        myQuestionIds = new int[size];
+        Arrays.fill(myQuestionIds, NO_QUESTION);
+        myQuestions = new ArrayList<>();
+    }
+
+    /**
+     * Gets the number of rows in this grid.
+     *
+     * @return the number of rows.
+     */
+    public int getRows() {
+        return myRows;
+    }
+
+    /**
+     * Gets the number of columns in this grid.
+     *
+     * @return the number of columns.
+     */
+    public int getCols() {
+        return myCols;
+    }
+
+    /**
+     * Gets the number of cells in this grid.
+     *
+     * @return the number of cells.
+     */
+    public int size() {
+        return myDoors.length;
+    }
+
+    /**
+     * Returns the index of the given row / column, or -1 if the position is outside the grid.
+     *
+     * @param theRow the row position.
+     * @param theCol the col position.
+     * @return the index of the cell.
+     */
+    public int indexOf(final int theRow, final int theCol) {
+        if (theRow < 0 || theRow >= myRows || theCol < 0 || theCol >= myCols) {
+            return -1;
+        }
+        return theCol + theRow * myCols;
+    }
+
+    /**
+     * Gets the index of the cell next to a cell in the given direction.
+     *
+     * @param theCell the index of the cell.
+     * @param theNESW the direction of the neighbour.
+     * @return the index of the neighbour, or -1 if it is outside the grid.
+     */
+    public int neighbourOf(final int theCell, final DoorDirection theNESW) {
+        return neighbourOf(theCell, theNESW.ordinal());
+    }
+
+    /**
+     * Gets the index of the cell next to a cell in the given direction.
+     * This only does arithmetic on the index and never allocates.
+     *
+     * @param theCell the index of the cell.
+     * @param theDirection the ordinal of the DoorDirection of the neighbour.
+     * @return the index of the neighbour, or -1 if it is outside the grid.
+     */
+    public int neighbourOf(final int theCell, final int theDirection) {
+        final int neighbour = theCell + myNeighbourOffsets[theDirection];
+        if (neighbour < 0 || neighbour >= myDoors.length) {
+            return -1;
+        }
+        // east and west neighbours have to stay on the same row
+        if ((theDirection & 1) == 1 && neighbour / myCols != theCell / myCols) {
+            return -1;
+        }
+        return neighbour;
+    }
+
+    /**
+     * Gets whether there is a passage from a cell to its neighbour in the given direction,
+     * which needs the doors on both sides to be open.
+     *
+     * @param theCell the index of the cell.
+     * @param theDirection the ordinal of the DoorDirection of the passage.
+     * @return whether there is a passage.
+     */
+    public boolean hasPassage(final int theCell, final int theDirection) {
+        final int neighbour = neighbourOf(theCell, theDirection);
+        return neighbour >= 0
+                && (myDoors[theCell] & (1 << theDirection)) != 0
+                && (myDoors[neighbour] & (1 << ((theDirection + 2) & 3))) != 0;
+    }
+
+    /**
+     * Opens the door of a cell in the given direction and the matching door of its neighbour.
+     *
+     * @param theCell the index of the cell.
+     * @param theNESW the direction of the passage.
+     */
+    public void carvePassage(final int theCell, final DoorDirection theNESW) {
+        final int neighbour = neighbourOf(theCell, theNESW);
+        if (neighbour < 0) {
+            throw new IllegalArgumentException("Cannot carve through the border of the grid");
+        }
+        setDoor(theCell, theNESW, true);
+        setDoor(neighbour, RoomEnums.inverseDoorDirection(theNESW), true);
+    }
+
+    /**
+     * Gets whether the door of a cell in the given direction is open.
+     *
+     * @param theCell the index of the cell.
+     * @param theNESW the direction of the door.
+     * @return whether the door is open.
+     */
+    public boolean isDoorOpen(final int theCell, final DoorDirection theNESW) {
+        return (myDoors[theCell] & (1 << theNESW.ordinal())) != 0;
+    }
+
+    /**
+     * Opens or closes the door of a cell in the given direction.
+     * Only this cell is changed, the door of the neighbouring cell is left as is.
+     *
+     * @param theCell the index of the cell.
+     * @param theNESW the direction of the door.
+     * @param theOpen whether the door is open.
+     */
+    public void setDoor(final int theCell, final DoorDirection theNESW, final boolean theOpen) {
+        markDirty(theCell);
+        if (theOpen) {
+            myDoors[theCell] |= (byte) (1 << theNESW.ordinal());
+        } else {
+            myDoors[theCell] &= (byte) ~(1 << theNESW.ordinal());
+        }
+    }
+
+    /**
+     * Gets the visibility of a cell.
+     *
+     * @param theCell the index of the cell.
+     * @return the visibility of the cell.
+     */
+    public Visibility getVisibility(final int theCell) {
+        return VISIBILITIES[myStates[theCell] & VISIBILITY_MASK];
+    }
+
+    /**
+     * Sets the visibility of a cell.
+     *
+     * @param theCell the index of the cell.
+     * @param theVisibility the new visibility.
+     */
+    public void setVisibility(final int theCell, final Visibility theVisibility) {
+        markDirty(theCell);
+        myStates[theCell] = (byte) ((myStates[theCell] & ~VISIBILITY_MASK) | theVisibility.ordinal());
+    }
+
+    /**
+     * Gets the fill that is shown once the cell is visible.
+     *
+     * @param theCell the index of the cell.
+     * @return the fill of the cell.
+     */
+    public RoomInfo getFill(final int theCell) {
+        return ROOM_INFOS[ROOM_INFO_FILL_START + ((myStates[theCell] >> FILL_SHIFT) & FILL_MASK)];
+    }
+
+    /**
+     * Gets the fill layer that is drawn for a cell: its own fill once it is visible, otherwise
+     * the layer of a locked room, a locked endpoint, or a mystery room.
+     *
+     * @param theCell the index of the cell.
+     * @return the fill layer of the cell.
+     */
+    public RoomInfo getShownFill(final int theCell) {
+        return switch (getVisibility(theCell)) {
+            case VISIBLE -> getFill(theCell);
+            case LOCKED -> isEndpoint(theCell) ? RoomInfo.ENDPOINT_LOCKED : RoomInfo.LOCKED;
+            case MYSTERY -> RoomInfo.MYSTERY;
+        };
+    }
+
+    /**
+     * Sets the fill that is shown once the cell is visible.
+     *
+     * @param theCell the index of the cell.
+     * @param theFill the fill, one of the RoomInfo values starting at ROOM_INFO_FILL_START.
+     */
+    public void setFill(final int theCell, final RoomInfo theFill) {
+        final int offset = theFill.ordinal() - ROOM_INFO_FILL_START;
+        if (offset < 0 || offset > FILL_MASK) {
+            throw new IllegalArgumentException(theFill + " is not a room fill");
+        }
+        markDirty(theCell);
+        myStates[theCell] = (byte) ((myStates[theCell] & ~(FILL_MASK << FILL_SHIFT)) | (offset << FILL_SHIFT));
+    }
+
+    /**
+     * Gets whether a cell is highlighted.
+     *
+     * @param theCell the index of the cell.
+     * @return whether the cell is highlighted.
+     */
+    public boolean isHighlighted(final int theCell) {
+        return (myStates[theCell] & HIGHLIGHT_BIT) != 0;
+    }
+
+    /**
+     * Sets whether a cell is highlighted.
+     *
+     * @param theCell the index of the cell.
+     * @param theHighlighted whether the cell is highlighted.
+     */
+    public void setHighlighted(final int theCell, final boolean theHighlighted) {
+        setStateBit(theCell, HIGHLIGHT_BIT, theHighlighted);
+    }
+
+    /**
+     * Gets whether a cell is an endpoint.
+     *
+     * @param theCell the index of the cell.
+     * @return whether the cell is an endpoint.
+     */
+    public boolean isEndpoint(final int theCell) {
+        return (myStates[theCell] & ENDPOINT_BIT) != 0;
+    }
+
+    /**
+     * Marks a cell as an endpoint.
+     *
+     * @param theCell the index of the cell.
+     */
+    public void setEndpoint(final int theCell) {
+        setStateBit(theCell, ENDPOINT_BIT, true);
+    }
+
+    /**
+     * Gets the question of a cell.
+     *
+     * @param theCell the index of the cell.
+     * @return the question of the cell, or null if it has none.
+     */
+    public Question getQuestion(final int theCell) {
+        final int id = myQuestionIds[theCell];
+        return id == NO_QUESTION ? null : myQuestions.get(id);
+    }
+
+    /**
+     * Sets the question of a cell.
+     *
+     * @param theCell the index of the cell.
+     * @param theQuestion the question of the cell.
+     */
+    public void setQuestion(final int theCell, final Question theQuestion) {
+        myQuestions.add(theQuestion);
+        myQuestionIds[theCell] = myQuestions.size() - 1;
+    }
+
+    /**
+     * Takes the cells whose doors, fill or state changed since the last call, so a view only has
+     * to redraw those. A cell may be listed more than once. When more changes were made than
+     * there are cells, and on the first call, null is returned and every cell should be treated
+     * as changed.
+     *
+     * @return the changed cells, or null if every cell should be redrawn.
+     */
+    public int[] takeDirtyCells() {
+        final int[] dirty = myDirtyCells == null ? null : Arrays.copyOf(myDirtyCells, myDirtyCount);
+        myDirtyCells = new int[Math.min(16, myDoors.length)];
+        myDirtyCount = 0;
+        return dirty;
+    }
+
+    /**
+     * Records that a cell changed, until more changes were made than there are cells.
+     *
+     * @param theCell the index of the cell.
+     */
+    private void markDirty(final int theCell) {
+        if (myDirtyCells == null) {
+            return;
+        }
+        if (myDirtyCount == myDirtyCells.length) {
+            if (myDirtyCount == myDoors.length) {
+                myDirtyCells = null;
+                return;
+            }
+            myDirtyCells = Arrays.copyOf(myDirtyCells, Math.min(myDirtyCount * 2, myDoors.length));
+        }
+        myDirtyCells[myDirtyCount++] = theCell;
+    }
+
+    /**
+     * Sets or clears a bit of the state of a cell.
+     *
+     * @param theCell the index of the cell.
+     * @param theBit the bit to change.
+     * @param theSet whether the bit is set.
+     */
+    private void setStateBit(final int theCell, final int theBit, final boolean theSet) {
+        markDirty(theCell);
+        if (theSet) {
+            myStates[theCell] |= (byte) theBit;
+        } else {
+            myStates[theCell] &= (byte) ~theBit;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package model;
 
+import model.QuestionEnums.Difficulty;
+import model.QuestionEnums.QuestionType;
+
 /**
  * Represents a text input question that can be asked.
  *
@@ -19,10 +22,28 @@ public final class TextInputQuestion extends Question {
      * @param theAnswer the answer to the question
      */
     public TextInputQuestion(final String thePrompt, final String theAnswer) {
-        super(thePrompt);
+        this(thePrompt, theAnswer, DEFAULT_DIFFICULTY, DEFAULT_CATEGORY);
+    }
+
+    /**
+     * Constructs an text input question with a difficulty and a category
+     *
+     * @param thePrompt the prompt of the question
+     * @param theAnswer the answer to the question
+     * @param theDifficulty the difficulty of the question
+     * @param theCategory the category tag of the question
+     */
+    public TextInputQuestion(final String thePrompt, final String theAnswer,
+                             final Difficulty theDifficulty, final String theCategory) {
+        super(thePrompt, theDifficulty, theCategory);
         myAnswer = theAnswer;
     }
 
+    @Override
+    public QuestionType getType() {
+        return QuestionType.TEXT_INPUT;
+    }
+
     @Override
     public boolean checkAnswer(String theAnswer) {
         return myAnswer.equalsIgnoreCase(theAnswer);
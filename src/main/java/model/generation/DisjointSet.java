@@ -0,0 +1,74 @@
+package model.generation;
+
+import java.util.Arrays;
+
+/**
+ * A union-find structure over the integers 0 to size - 1, stored in a single int array.
+ * Uses path halving and union by size, so every operation runs in near constant time.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+final class DisjointSet {
+
+    /** The parent of each element, or the negated size of the set for a root. */
+    private final int[] myParents;
+
+    /**
+     * Creates a structure where every element is in a set of its own.
+     *
+     * @param theSize the number of elements.
+     */
+    DisjointSet(final int theSize) {
+        myParents = new int[theSize];
+        reset();
+    }
+
+    /**
+     * Puts every element back into a set of its own.
+     */
+    void reset() {
+        Arrays.fill(myParents, -1);
+    }
+
+    /**
+     * Finds the representative element of the set that holds an element.
+     *
+     * @param theElement the element.
+     * @return the representative of its set.
+     */
+    int find(final int theElement) {
+        int element = theElement;
+        while (myParents[element] >= 0) {
+            final int parent = myParents[element];
+            if (myParents[parent] >= 0) {
+                myParents[element] = myParents[parent];
+            }
+            element = parent;
+        }
+        return element;
+    }
+
+    /**
+     * Merges the sets that hold two elements.
+     *
+     * @param theFirst the first element.
+     * @param theSecond the second element.
+     * @return false if the elements were already in the same set.
+     */
+    boolean union(final int theFirst, final int theSecond) {
+        int first = find(theFirst);
+        int second = find(theSecond);
+        if (first == second) {
+            return false;
+        }
+        if (myParents[first] > myParents[second]) {
+            final int swap = first;
+            first = second;
+            second = swap;
+        }
+        myParents[first] += myParents[second];
+        myParents[second] = first;
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+package model.generation;
+
+import model.RoomEnums.DoorDirection;
+import model.RoomGrid;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Carves a perfect maze one row at a time with Eller's algorithm.
+ * Only the sets of the current row are kept, as a union-find over its columns, so the extra
+ * memory is O(columns) and each row takes O(columns). In each row neighbouring cells of different
+ * sets are randomly joined, then every set opens at least one passage down into the next row.
+ * The last row joins all remaining sets.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class EllerGenerator implements MazeGenerator {
+
+    @Override
+    public void generate(final RoomGrid theGrid, final RandomGenerator theRandom) {
+        final int rows = theGrid.getRows();
+        final int cols = theGrid.getCols();
+
+        DisjointSet sets = new DisjointSet(cols);
+        DisjointSet nextSets = new DisjointSet(cols);
+        final int[] remaining = new int[cols];
+        final boolean[] hasPassageDown = new boolean[cols];
+        final int[] firstBelow = new int[cols];
+
+        for (int row = 0; row < rows; row++) {
+            final int rowStart = row * cols;
+            final boolean lastRow = row == rows - 1;
+
+            for (int col = 0; col < cols - 1; col++) {
+                if (sets.find(col) != sets.find(col + 1) && (lastRow || theRandom.nextBoolean())) {
+                    sets.union(col, col + 1);
+                    theGrid.carvePassage(rowStart + col, DoorDirection.EAST);
+                }
+            }
+            if (lastRow) {
+                break;
+            }
+
+            Arrays.fill(remaining, 0);
+            Arrays.fill(hasPassageDown, false);
+            Arrays.fill(firstBelow, -1);
+            for (int col = 0; col < cols; col++) {
+                remaining[sets.find(col)]++;
+            }
+
+            // every set needs at least one passage down, the cells below inherit the set
+            nextSets.reset();
+            for (int col = 0; col < cols; col++) {
+                final int set = sets.find(col);
+                remaining[set]--;
+                if (theRandom.nextBoolean() || (remaining[set] == 0 && !hasPassageDown[set])) {
+                    hasPassageDown[set] = true;
+                    theGrid.carvePassage(rowStart + col, DoorDirection.SOUTH);
+                    if (firstBelow[set] < 0) {
+                        firstBelow[set] = col;
+                    } else {
+                        nextSets.union(firstBelow[set], col);
+                    }
+                }
+            }
+
+            final DisjointSet swap = sets;
+            sets = nextSets;
+            nextSets = swap;
+        }
+    }
+}
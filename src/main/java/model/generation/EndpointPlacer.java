@@ -0,0 +1,100 @@
+package model.generation;
+
+import model.RoomGrid;
+
+import java.util.random.RandomGenerator;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+
+/**
+ * Picks the endpoint of a maze by walking the passages from the starting room.
+ * A single breadth first search gives the path distance of every reachable room, and the end is
+ * picked at random from the rooms whose distance falls in a percentile band of those distances.
+ * This takes one pass over the grid no matter its shape or how the corridors were carved.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class EndpointPlacer {
+
+    /** The lowest percentile of path distance the end is picked from by default. */
+    public static final double DEFAULT_MIN_PERCENTILE = 0.75;
+
+    /** The highest percentile of path distance the end is picked from by default. */
+    public static final double DEFAULT_MAX_PERCENTILE = 1.0;
+
+    /** The lowest percentile of path distance the end is picked from. */
+    private final double myMinPercentile;
+
+    /** The highest percentile of path distance the end is picked from. */
+    private final double myMaxPercentile;
+
+    /**
+     * Creates a placer that picks the end from the furthest quarter of the rooms.
+     */
+    public EndpointPlacer() {
+        this(DEFAULT_MIN_PERCENTILE, DEFAULT_MAX_PERCENTILE);
+    }
+
+    /**
+     * Creates a placer that picks the end from the rooms whose path distance from the start is
+     * between the two percentiles of the path distances of all reachable rooms.
+     *
+     * @param theMinPercentile the lowest percentile, between 0 and 1.
+     * @param theMaxPercentile the highest percentile, between theMinPercentile and 1.
+     */
+    public EndpointPlacer(final double theMinPercentile, final double theMaxPercentile) {
+        if (!(theMinPercentile >= 0 && theMinPercentile <= theMaxPercentile && theMaxPercentile <= 1)) {
+            throw new IllegalArgumentException("The percentile band must be inside 0 to 1");
+        }
+        myMinPercentile = theMinPercentile;
+        myMaxPercentile = theMaxPercentile;
+    }
+
+    /**
+     * Picks the endpoint of the maze. The start is only picked as the end when it is the only
+     * room that can be reached.
+     *
+     * @param theGrid the grid with its passages carved.
+     * @param theStart the index of the starting room.
+     * @param theRandom the random number generator to pick the end with.
+     * @return the index of the ending room.
+     */
+    public int placeEnd(final RoomGrid theGrid, final int theStart, final RandomGenerator theRandom) {
+        // a breadth first search visits rooms in order of distance, so the queue ends up sorted
+        final int[] distances = new int[theGrid.size()];
+        final int[] queue = new int[theGrid.size()];
+        distances[theStart] = 1;
+        queue[0] = theStart;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            final int cell = queue[head++];
+            for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+                if (!theGrid.hasPassage(cell, direction)) {
+                    continue;
+                }
+                final int neighbour = theGrid.neighbourOf(cell, direction);
+                if (distances[neighbour] == 0) {
+                    distances[neighbour] = distances[cell] + 1;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+        if (tail == 1) {
+            return theStart;
+        }
+
+        // the start itself is left out, and rooms at the same distance are all in or all out
+        final int last = tail - 1;
+        int low = 1 + (int) Math.floor(myMinPercentile * (last - 1));
+        int high = 1 + (int) Math.ceil(myMaxPercentile * (last - 1));
+        while (low > 1 && distances[queue[low - 1]] == distances[queue[low]]) {
+            low--;
+        }
+        while (high < last && distances[queue[high + 1]] == distances[queue[high]]) {
+            high++;
+        }
+        return queue[low + theRandom.nextInt(high - low + 1)];
+    }
+}
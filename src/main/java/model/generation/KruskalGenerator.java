@@ -0,0 +1,56 @@
+package model.generation;
+
+import model.RoomEnums.DoorDirection;
+import model.RoomGrid;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Carves a perfect maze with the randomized version of Kruskal's algorithm.
+ * Every wall between two rooms is visited once in shuffled order, and it is opened when the rooms
+ * on either side are not yet connected. Connectivity is tracked with a union-find over the cells,
+ * so the whole run is O(cells). The resulting mazes have many short dead ends.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class KruskalGenerator implements MazeGenerator {
+
+    @Override
+    public void generate(final RoomGrid theGrid, final RandomGenerator theRandom) {
+        final int rows = theGrid.getRows();
+        final int cols = theGrid.getCols();
+
+        // a wall is stored as cell * 2, plus 1 for the south wall of the cell instead of the east
+        final int[] walls = new int[rows * (cols - 1) + (rows - 1) * cols];
+        int count = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                final int cell = col + row * cols;
+                if (col < cols - 1) {
+                    walls[count++] = cell * 2;
+                }
+                if (row < rows - 1) {
+                    walls[count++] = cell * 2 + 1;
+                }
+            }
+        }
+
+        for (int i = walls.length - 1; i > 0; i--) {
+            final int j = theRandom.nextInt(i + 1);
+            final int swap = walls[i];
+            walls[i] = walls[j];
+            walls[j] = swap;
+        }
+
+        final DisjointSet sets = new DisjointSet(theGrid.size());
+        for (final int wall : walls) {
+            final int cell = wall >>> 1;
+            final boolean south = (wall & 1) == 1;
+            final int neighbour = south ? cell + cols : cell + 1;
+            if (sets.union(cell, neighbour)) {
+                theGrid.carvePassage(cell, south ? DoorDirection.SOUTH : DoorDirection.EAST);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package model.generation;
+
+import model.RoomGrid;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Carves the passages of a maze into a grid of rooms.
+ * A generator starts from a grid where every door is closed and only ever opens doors between
+ * neighbouring rooms, so the outer wall of the maze always stays closed.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public interface MazeGenerator {
+
+    /**
+     * Carves the passages of a maze into the grid.
+     *
+     * @param theGrid the grid to carve into, with every door closed.
+     * @param theRandom the random number generator used to shape the maze.
+     */
+    void generate(RoomGrid theGrid, RandomGenerator theRandom);
+}
@@ -0,0 +1,33 @@
+package model.generation;
+
+import model.RoomEnums.DoorDirection;
+import model.RoomGrid;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Opens every door between neighbouring rooms, so the maze is an open grid with only the outer
+ * wall closed. This was the layout of every maze before real corridors were carved.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class OpenGridGenerator implements MazeGenerator {
+
+    @Override
+    public void generate(final RoomGrid theGrid, final RandomGenerator theRandom) {
+        final int rows = theGrid.getRows();
+        final int cols = theGrid.getCols();
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                final int cell = col + row * cols;
+                if (col < cols - 1) {
+                    theGrid.carvePassage(cell, DoorDirection.EAST);
+                }
+                if (row < rows - 1) {
+                    theGrid.carvePassage(cell, DoorDirection.SOUTH);
+                }
+            }
+        }
+    }
+}
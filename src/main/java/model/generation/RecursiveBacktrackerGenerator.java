@@ -0,0 +1,53 @@
+package model.generation;
+
+import model.RoomGrid;
+
+import java.util.random.RandomGenerator;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+
+/**
+ * Carves a perfect maze with a randomized depth-first search.
+ * The search keeps its path in an explicit int stack instead of recursing, so it works on grids
+ * of any size. Every cell is pushed and popped once, which makes it O(cells).
+ * The resulting mazes have long, winding corridors with few dead ends.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class RecursiveBacktrackerGenerator implements MazeGenerator {
+
+    @Override
+    public void generate(final RoomGrid theGrid, final RandomGenerator theRandom) {
+        final int size = theGrid.size();
+        final boolean[] visited = new boolean[size];
+        final int[] stack = new int[size];
+        final int[] choices = new int[DOOR_DIRECTIONS.length];
+        int top = 0;
+
+        final int start = theRandom.nextInt(size);
+        visited[start] = true;
+        stack[top++] = start;
+
+        while (top > 0) {
+            final int cell = stack[top - 1];
+            int count = 0;
+            for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+                final int neighbour = theGrid.neighbourOf(cell, direction);
+                if (neighbour >= 0 && !visited[neighbour]) {
+                    choices[count++] = direction;
+                }
+            }
+
+            if (count == 0) {
+                top--;
+            } else {
+                final int direction = choices[theRandom.nextInt(count)];
+                final int neighbour = theGrid.neighbourOf(cell, direction);
+                theGrid.carvePassage(cell, DOOR_DIRECTIONS[direction]);
+                visited[neighbour] = true;
+                stack[top++] = neighbour;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package model.generation;
+
+import model.RoomGrid;
+
+import java.util.random.RandomGenerator;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+
+/**
+ * Carves a perfect maze with Wilson's algorithm, which picks uniformly among all possible mazes.
+ * Starting from each cell that is not yet in the maze, a random walk runs until it hits the maze.
+ * Only the last exit taken from each cell is remembered, which erases loops for free, and the
+ * walk is then carved along those exits. All state lives in flat arrays, and no recursion is used.
+ * The expected running time grows with the hitting times of the walks, which is close to linear
+ * in the number of cells on a square grid, but quadratic on a grid that is a single line.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class WilsonGenerator implements MazeGenerator {
+
+    @Override
+    public void generate(final RoomGrid theGrid, final RandomGenerator theRandom) {
+        final int size = theGrid.size();
+        final boolean[] inMaze = new boolean[size];
+        final byte[] exits = new byte[size];
+
+        inMaze[theRandom.nextInt(size)] = true;
+
+        for (int start = 0; start < size; start++) {
+            // walk until the maze is hit, remembering the last exit taken from each cell
+            int cell = start;
+            while (!inMaze[cell]) {
+                int neighbour;
+                int direction;
+                do {
+                    direction = theRandom.nextInt(DOOR_DIRECTIONS.length);
+                    neighbour = theGrid.neighbourOf(cell, direction);
+                } while (neighbour < 0);
+                exits[cell] = (byte) direction;
+                cell = neighbour;
+            }
+
+            // carve the loop-erased walk into the maze
+            cell = start;
+            while (!inMaze[cell]) {
+                inMaze[cell] = true;
+                theGrid.carvePassage(cell, DOOR_DIRECTIONS[exits[cell]]);
+                cell = theGrid.neighbourOf(cell, exits[cell]);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package model.solver;
+
+import model.RoomGrid;
+
+import java.util.Arrays;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+
+/**
+ * Finds shortest paths with an A* search guided by the Manhattan distance to the goal.
+ * The distance can never overestimate the number of steps, so the first time the goal is
+ * taken off the heap its path is a shortest one. Ties are broken towards the room that is
+ * furthest along, which keeps the search narrow in open areas.
+ *
+ * @author Jacob Klymenko
+ * @version 1.0
+ */
+public final class AStarSolver implements MazeSolver {
+
+    /** The cost stored for rooms that have not been reached. */
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    @Override
+    public int[] findPath(final RoomGrid theGrid, final int theStart, final int theGoal) {
+        final int cols = theGrid.getCols();
+        final int goalRow = theGoal / cols;
+        final int goalCol = theGoal % cols;
+        final int[] costs = new int[theGrid.size()];
+        Arrays.fill(costs, UNREACHED);
+        final byte[] entered = new byte[theGrid.size()];
+        final IntMinHeap open = new IntMinHeap(64);
+
+        costs[theStart] = 0;
+        entered[theStart] = Paths.ORIGIN;
+        open.push(theStart, key(0, distance(theStart, cols, goalRow, goalCol)));
+        while (!open.isEmpty()) {
+            final int cell = open.pop();
+            if (cell == theGoal) {
+                return Paths.build(theGrid, entered, theGoal);
+            }
+            final int cost = costs[cell] + 1;
+            for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+                if (!theGrid.hasPassage(cell, direction)) {
+                    continue;
+                }
+                final int neighbour = theGrid.neighbourOf(cell, direction);
+                if (cost < costs[neighbour]) {
+                    // a room may be pushed again with a lower cost, the old entry is skipped later
+                    costs[neighbour] = cost;
+                    entered[neighbour] = Paths.enteredThrough(direction);
+                    open.push(neighbour, key(cost, distance(neighbour, cols, goalRow, goalCol)));
+                }
+            }
+        }
+        return NO_PATH;
+    }
+
+    /**
+     * Gets the Manhattan distance from a room to the goal.
+     *
+     * @param theCell the index of the room.
+     * @param theCols the number of columns in the grid.
+     * @param theGoalRow the row of the goal.
+     * @param theGoalCol the column of the goal.
+     * @return the distance.
+     */
+    private static int distance(final int theCell, final int theCols, final int theGoalRow, final int theGoalCol) {
+        return Math.abs(theCell / theCols - theGoalRow) + Math.abs(theCell % theCols - theGoalCol);
+    }
+
+    /**
+     * Gets the heap key of a room: its estimated total cost, then the most steps taken first.
+     *
+     * @param theCost the number of steps to the room.
+     * @param theDistance the estimated number of steps left.
+     * @return the key.
+     */
+    private static long key(final int theCost, final int theDistance) {
+        return ((long) (theCost + theDistance) << 32) | (Integer.MAX_VALUE - theCost);
+    }
+}
@@ -0,0 +1,108 @@
+package model.solver;
+
+import model.RoomGrid;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+
+/**
+ * Finds shortest paths with two breadth first searches, one from the start and one from the
+ * goal, always growing the side with the smaller frontier by one whole level. The searches stop
+ * as soon as a room is reached by both, which on most mazes is far less of the maze than a
+ * single search would cover.
+ *
+ * @author Jacob Klymenko
+ * @version 1.0
+ */
+public final class BidirectionalSolver implements MazeSolver {
+
+    @Override
+    public int[] findPath(final RoomGrid theGrid, final int theStart, final int theGoal) {
+        if (theStart == theGoal) {
+            return new int[]{theStart};
+        }
+        final byte[] fromStart = new byte[theGrid.size()];
+        final byte[] fromGoal = new byte[theGrid.size()];
+        final int[] startQueue = new int[theGrid.size()];
+        final int[] goalQueue = new int[theGrid.size()];
+        fromStart[theStart] = Paths.ORIGIN;
+        fromGoal[theGoal] = Paths.ORIGIN;
+        startQueue[0] = theStart;
+        goalQueue[0] = theGoal;
+        // the first room of the current level and the end of each queue
+        int startHead = 0;
+        int startTail = 1;
+        int goalHead = 0;
+        int goalTail = 1;
+
+        while (startHead < startTail && goalHead < goalTail) {
+            final int meeting;
+            if (startTail - startHead <= goalTail - goalHead) {
+                meeting = expandLevel(theGrid, startQueue, startHead, startTail, fromStart, fromGoal);
+                startHead = startTail;
+                startTail = meeting < 0 ? -meeting - 1 : startTail;
+            } else {
+                meeting = expandLevel(theGrid, goalQueue, goalHead, goalTail, fromGoal, fromStart);
+                goalHead = goalTail;
+                goalTail = meeting < 0 ? -meeting - 1 : goalTail;
+            }
+            if (meeting >= 0) {
+                return join(theGrid, fromStart, fromGoal, meeting);
+            }
+        }
+        return NO_PATH;
+    }
+
+    /**
+     * Expands one level of a search, adding the next level to the end of its queue.
+     * The first room found that the other search has already reached is where they meet.
+     *
+     * @param theGrid the grid being searched.
+     * @param theQueue the queue of the search.
+     * @param theHead the first room of the level.
+     * @param theTail the end of the level, where the next level is added.
+     * @param theEntered the markers of this search.
+     * @param theOther the markers of the other search.
+     * @return the meeting room, or -(new tail) - 1 if the searches have not met.
+     */
+    private static int expandLevel(final RoomGrid theGrid, final int[] theQueue, final int theHead,
+                                   final int theTail, final byte[] theEntered, final byte[] theOther) {
+        int tail = theTail;
+        for (int i = theHead; i < theTail; i++) {
+            final int cell = theQueue[i];
+            for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+                if (!theGrid.hasPassage(cell, direction)) {
+                    continue;
+                }
+                final int neighbour = theGrid.neighbourOf(cell, direction);
+                if (theEntered[neighbour] != Paths.UNREACHED) {
+                    continue;
+                }
+                theEntered[neighbour] = Paths.enteredThrough(direction);
+                if (theOther[neighbour] != Paths.UNREACHED) {
+                    return neighbour;
+                }
+                theQueue[tail++] = neighbour;
+            }
+        }
+        return -tail - 1;
+    }
+
+    /**
+     * Joins the two halves of the path at the room where the searches met.
+     *
+     * @param theGrid the grid that was searched.
+     * @param theFromStart the markers of the search from the start.
+     * @param theFromGoal the markers of the search from the goal.
+     * @param theMeeting the room reached by both searches.
+     * @return the path from the start to the goal.
+     */
+    private static int[] join(final RoomGrid theGrid, final byte[] theFromStart, final byte[] theFromGoal,
+                              final int theMeeting) {
+        final int startSteps = Paths.stepsToOrigin(theGrid, theFromStart, theMeeting);
+        final int goalSteps = Paths.stepsToOrigin(theGrid, theFromGoal, theMeeting);
+        final int[] path = new int[startSteps + goalSteps + 1];
+        Paths.writeFromOrigin(theGrid, theFromStart, theMeeting, path, 0, startSteps);
+        Paths.writeToOrigin(theGrid, theFromGoal, theMeeting, path, startSteps);
+        return path;
+    }
+}
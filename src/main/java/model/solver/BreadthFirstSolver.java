@@ -0,0 +1,43 @@
+package model.solver;
+
+import model.RoomGrid;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+
+/**
+ * Finds shortest paths with a breadth first search from the start.
+ * The queue is a plain int array and each room only stores the direction it was entered
+ * through, so a search needs five bytes per room.
+ *
+ * @author Jacob Klymenko
+ * @version 1.0
+ */
+public final class BreadthFirstSolver implements MazeSolver {
+
+    @Override
+    public int[] findPath(final RoomGrid theGrid, final int theStart, final int theGoal) {
+        final byte[] entered = new byte[theGrid.size()];
+        final int[] queue = new int[theGrid.size()];
+        entered[theStart] = Paths.ORIGIN;
+        queue[0] = theStart;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            final int cell = queue[head++];
+            if (cell == theGoal) {
+                return Paths.build(theGrid, entered, theGoal);
+            }
+            for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+                if (!theGrid.hasPassage(cell, direction)) {
+                    continue;
+                }
+                final int neighbour = theGrid.neighbourOf(cell, direction);
+                if (entered[neighbour] == Paths.UNREACHED) {
+                    entered[neighbour] = Paths.enteredThrough(direction);
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+        return NO_PATH;
+    }
+}
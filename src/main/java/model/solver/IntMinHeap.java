@@ -0,0 +1,96 @@
+package model.solver;
+
+import java.util.Arrays;
+
+/**
+ * A binary min heap of int values ordered by long keys, kept in two parallel primitive arrays
+ * so that pushing and popping never boxes a value.
+ *
+ * @author Jacob Klymenko
+ * @version 1.0
+ */
+final class IntMinHeap {
+
+    /** The values in heap order. */
+    private int[] myValues;
+
+    /** The key of each value. */
+    private long[] myKeys;
+
+    /** The number of values in the heap. */
+    private int mySize;
+
+    /**
+     * Creates an empty heap.
+     *
+     * @param theCapacity the number of values the heap holds before it grows.
+     */
+    IntMinHeap(final int theCapacity) {
+        myValues = new int[Math.max(theCapacity, 1)];
+        myKeys = new long[myValues.length];
+    }
+
+    /**
+     * Gets whether the heap is empty.
+     *
+     * @return whether the heap is empty.
+     */
+    boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    /**
+     * Adds a value to the heap.
+     *
+     * @param theValue the value.
+     * @param theKey the key to order the value by, smallest first.
+     */
+    void push(final int theValue, final long theKey) {
+        if (mySize == myValues.length) {
+            myValues = Arrays.copyOf(myValues, mySize * 2);
+            myKeys = Arrays.copyOf(myKeys, mySize * 2);
+        }
+        int i = mySize++;
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (myKeys[parent] <= theKey) {
+                break;
+            }
+            myValues[i] = myValues[parent];
+            myKeys[i] = myKeys[parent];
+            i = parent;
+        }
+        myValues[i] = theValue;
+        myKeys[i] = theKey;
+    }
+
+    /**
+     * Removes the value with the smallest key from the heap.
+     *
+     * @return the value with the smallest key.
+     */
+    int pop() {
+        final int top = myValues[0];
+        final int lastValue = myValues[--mySize];
+        final long lastKey = myKeys[mySize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= mySize) {
+                break;
+            }
+            if (child + 1 < mySize && myKeys[child + 1] < myKeys[child]) {
+                child++;
+            }
+            if (myKeys[child] >= lastKey) {
+                break;
+            }
+            myValues[i] = myValues[child];
+            myKeys[i] = myKeys[child];
+            i = child;
+        }
+        myValues[i] = lastValue;
+        myKeys[i] = lastKey;
+        return top;
+    }
+}
@@ -0,0 +1,45 @@
+package model.solver;
+
+import model.RoomGrid;
+
+/**
+ * Finds the shortest route between two rooms of a maze, moving only through passages.
+ * Every solver gives a path of the same length, they only differ in how much of the maze
+ * they have to look at to find it.
+ *
+ * @author Jacob Klymenko
+ * @version 1.0
+ */
+public interface MazeSolver {
+
+    /** The path returned when the goal cannot be reached from the start. */
+    int[] NO_PATH = new int[0];
+
+    /**
+     * Finds a shortest path between two rooms.
+     *
+     * @param theGrid the grid with its passages carved.
+     * @param theStart the index of the room to start from.
+     * @param theGoal the index of the room to reach.
+     * @return the indices of the rooms on the path, from the start to the goal,
+     * or NO_PATH if the goal cannot be reached.
+     */
+    int[] findPath(RoomGrid theGrid, int theStart, int theGoal);
+
+    /**
+     * Finds the room to move to next on a shortest path between two rooms.
+     *
+     * @param theGrid the grid with its passages carved.
+     * @param theStart the index of the room to start from.
+     * @param theGoal the index of the room to reach.
+     * @return the index of the next room, the start if it is the goal, or -1 if the goal
+     * cannot be reached.
+     */
+    default int nextRoom(final RoomGrid theGrid, final int theStart, final int theGoal) {
+        final int[] path = findPath(theGrid, theStart, theGoal);
+        if (path.length == 0) {
+            return -1;
+        }
+        return path.length == 1 ? path[0] : path[1];
+    }
+}
@@ -0,0 +1,110 @@
+package model.solver;
+
+import model.RoomGrid;
+
+/**
+ * Rebuilds paths from the direction each room was first entered through.
+ * A room that has not been reached has the direction 0, a reached room stores the ordinal of
+ * the DoorDirection it was entered through plus one, so the arrays need no clearing.
+ *
+ * @author Jacob Klymenko
+ * @version 1.0
+ */
+final class Paths {
+
+    /** The marker of a room that has not been reached. */
+    static final byte UNREACHED = 0;
+
+    /** The marker of the room a search started from. */
+    static final byte ORIGIN = 5;
+
+    /**
+     * This class only holds static helpers.
+     */
+    private Paths() {
+    }
+
+    /**
+     * Gets the marker of a room that was entered through the given direction.
+     *
+     * @param theDirection the ordinal of the DoorDirection the room was entered through.
+     * @return the marker to store.
+     */
+    static byte enteredThrough(final int theDirection) {
+        return (byte) (theDirection + 1);
+    }
+
+    /**
+     * Counts the steps from a room back to the origin of a search.
+     *
+     * @param theGrid the grid that was searched.
+     * @param theEntered the markers of the search.
+     * @param theCell the room to count from.
+     * @return the number of steps.
+     */
+    static int stepsToOrigin(final RoomGrid theGrid, final byte[] theEntered, final int theCell) {
+        int steps = 0;
+        int cell = theCell;
+        while (theEntered[cell] != ORIGIN) {
+            cell = theGrid.neighbourOf(cell, (theEntered[cell] + 1) & 3);
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Writes the rooms from the origin of a search to a room into a path, origin first.
+     *
+     * @param theGrid the grid that was searched.
+     * @param theEntered the markers of the search.
+     * @param theCell the last room to write.
+     * @param thePath the path to write into.
+     * @param theOffset the position of the origin in the path.
+     * @param theSteps the number of steps from the origin to the room.
+     */
+    static void writeFromOrigin(final RoomGrid theGrid, final byte[] theEntered, final int theCell,
+                                final int[] thePath, final int theOffset, final int theSteps) {
+        int cell = theCell;
+        for (int i = theOffset + theSteps; i >= theOffset; i--) {
+            thePath[i] = cell;
+            if (i > theOffset) {
+                cell = theGrid.neighbourOf(cell, (theEntered[cell] + 1) & 3);
+            }
+        }
+    }
+
+    /**
+     * Writes the rooms from a room back to the origin of a search into a path, origin last.
+     *
+     * @param theGrid the grid that was searched.
+     * @param theEntered the markers of the search.
+     * @param theCell the first room to write.
+     * @param thePath the path to write into.
+     * @param theOffset the position of the room in the path.
+     */
+    static void writeToOrigin(final RoomGrid theGrid, final byte[] theEntered, final int theCell,
+                              final int[] thePath, final int theOffset) {
+        int cell = theCell;
+        int i = theOffset;
+        thePath[i] = cell;
+        while (theEntered[cell] != ORIGIN) {
+            cell = theGrid.neighbourOf(cell, (theEntered[cell] + 1) & 3);
+            thePath[++i] = cell;
+        }
+    }
+
+    /**
+     * Builds the path from the origin of a search to a room.
+     *
+     * @param theGrid the grid that was searched.
+     * @param theEntered the markers of the search.
+     * @param theGoal the room the path ends at.
+     * @return the path, origin first.
+     */
+    static int[] build(final RoomGrid theGrid, final byte[] theEntered, final int theGoal) {
+        final int steps = stepsToOrigin(theGrid, theEntered, theGoal);
+        final int[] path = new int[steps + 1];
+        writeFromOrigin(theGrid, theEntered, theGoal, path, 0, steps);
+        return path;
+    }
+}
@@ -0,0 +1,371 @@
+package tests;
+
+import model.*;
+import model.RoomEnums.DoorDirection;
+import model.RoomEnums.Visibility;
+import model.generation.RecursiveBacktrackerGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the chunked endless maze.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class EndlessMazeTest {
+
+    /** The directory chunks are spilled to. */
+    private Path mySpillDirectory;
+
+    /** The questions given to the rooms. */
+    private List<Question> myQuestions;
+
+    /** The mazes made by a test, closed after it. */
+    private List<EndlessMaze> myMazes;
+
+    /**
+     * To be run before each test to set up the objects.
+     *
+     * @throws IOException if the spill directory cannot be made.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        mySpillDirectory = Files.createTempDirectory("endless-maze");
+        myQuestions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            myQuestions.add(new BooleanQuestion("Question " + i, i % 2 == 0));
+        }
+        myMazes = new ArrayList<>();
+    }
+
+    /**
+     * To be run after each test to remove the spill files.
+     *
+     * @throws IOException if a file cannot be removed.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        for (EndlessMaze maze : myMazes) {
+            maze.close();
+        }
+        try (Stream<Path> files = Files.walk(mySpillDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Tests that the maze starts with a single visible room at (0, 0).
+     */
+    @Test
+    public void testStart() {
+        EndlessMaze maze = makeMaze(4);
+        assertEquals(Visibility.VISIBLE, maze.getVisibility(0, 0));
+        assertEquals(1, maze.getRoomsDiscovered());
+        for (DoorDirection direction : DOOR_DIRECTIONS) {
+            int row = step(0, direction, true);
+            int col = step(0, direction, false);
+            assertEquals(maze.hasPassage(0, 0, direction) ? Visibility.LOCKED : Visibility.MYSTERY,
+                    maze.getVisibility(row, col));
+        }
+    }
+
+    /**
+     * Tests that passages agree on both sides and that chunks are joined into one maze.
+     */
+    @Test
+    public void testChunksAreConnected() {
+        EndlessMaze maze = makeMaze(16);
+        int size = maze.getChunkSize();
+        // every room of a 3 x 3 block of chunks around the start
+        int min = -size;
+        int max = 2 * size - 1;
+        Set<Long> seen = new HashSet<>();
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{0, 0});
+        seen.add(0L);
+        while (!queue.isEmpty()) {
+            int[] room = queue.poll();
+            for (DoorDirection direction : DOOR_DIRECTIONS) {
+                int row = step(room[0], direction, true);
+                int col = step(room[1], direction, false);
+                assertEquals(maze.hasPassage(room[0], room[1], direction),
+                        maze.hasPassage(row, col, RoomEnums.inverseDoorDirection(direction)));
+                if (row < min || row > max || col < min || col > max
+                        || !maze.hasPassage(room[0], room[1], direction)) {
+                    continue;
+                }
+                if (seen.add(((long) row << 32) | (col & 0xFFFFFFFFL))) {
+                    queue.add(new int[]{row, col});
+                }
+            }
+        }
+        assertEquals(9 * size * size, seen.size());
+    }
+
+    /**
+     * Tests that dropped chunks come back exactly as they were generated.
+     */
+    @Test
+    public void testDroppedChunksAreRegenerated() {
+        EndlessMaze maze = makeMaze(2);
+        String before = describe(maze, 40, 40);
+        for (int chunk = 0; chunk < 10; chunk++) {
+            maze.getVisibility(1000 + chunk * maze.getChunkSize(), -500);
+        }
+        assertEquals(2, maze.getLoadedChunkCount());
+        assertEquals(before, describe(maze, 40, 40));
+
+        EndlessMaze copy = makeMaze(2);
+        assertEquals(before, describe(copy, 40, 40));
+    }
+
+    /**
+     * Tests that changed chunks are spilled to disk and keep their changes.
+     */
+    @Test
+    public void testTouchedChunksAreSpilled() {
+        EndlessMaze maze = makeMaze(2);
+        int[] locked = findLocked(maze);
+        int row = locked[0];
+        int col = locked[1];
+        Question question = maze.getQuestion(row, col);
+        assertFalse(maze.checkAnswer(row, col, String.valueOf(!Boolean.parseBoolean(question.getAnswer()))));
+        assertTrue(maze.checkAnswer(row, col, question.getAnswer()));
+        assertEquals(2, maze.getRoomsDiscovered());
+
+        for (int chunk = 0; chunk < 10; chunk++) {
+            maze.getVisibility(1000 + chunk * maze.getChunkSize(), -500);
+        }
+        assertTrue(maze.getSpilledChunkCount() > 0);
+        assertEquals(Visibility.VISIBLE, maze.getVisibility(0, 0));
+        assertEquals(Visibility.VISIBLE, maze.getVisibility(row, col));
+    }
+
+    /**
+     * Tests that only LOCKED rooms have a question, drawn from the source as they are locked.
+     */
+    @Test
+    public void testQuestionsAreBoundLazily() {
+        int[] draws = new int[1];
+        QuestionSource source = new QuestionSource() {
+            @Override
+            public Question nextQuestion() {
+                return myQuestions.get(draws[0]++ % myQuestions.size());
+            }
+
+            @Override
+            public void attach(final QuestionBank theBank) {
+                // the questions are never saved
+            }
+        };
+        EndlessMaze maze = makeMaze(4, source);
+        assertEquals(countLocked(maze), draws[0]);
+        for (int row = -20; row < 20; row++) {
+            for (int col = -20; col < 20; col++) {
+                assertEquals(maze.getVisibility(row, col) == Visibility.LOCKED, maze.getQuestion(row, col) != null);
+            }
+        }
+
+        int[] locked = findLocked(maze);
+        Question question = maze.getQuestion(locked[0], locked[1]);
+        assertTrue(maze.checkAnswer(locked[0], locked[1], question.getAnswer()));
+        assertEquals(countLocked(maze) + 1, draws[0]);
+        assertEquals(question.getPrompt(), maze.getQuestion(locked[0], locked[1]).getPrompt());
+    }
+
+    /**
+     * Tests that a spill file is deleted once its chunk is read back, and that closing the maze
+     * deletes the rest.
+     *
+     * @throws IOException if the spill directory cannot be listed.
+     */
+    @Test
+    public void testSpillFilesAreDeleted() throws IOException {
+        EndlessMaze maze = makeMaze(2);
+        int[] locked = findLocked(maze);
+        assertTrue(maze.checkAnswer(locked[0], locked[1], maze.getQuestion(locked[0], locked[1]).getAnswer()));
+        for (int chunk = 0; chunk < 10; chunk++) {
+            maze.getVisibility(1000 + chunk * maze.getChunkSize(), -500);
+        }
+        int spilled = maze.getSpilledChunkCount();
+        assertTrue(spilled > 0);
+        assertEquals(spilled, countFiles());
+
+        assertEquals(Visibility.VISIBLE, maze.getVisibility(0, 0));
+        assertEquals(spilled - 1, maze.getSpilledChunkCount());
+        assertEquals(spilled - 1, countFiles());
+
+        maze.close();
+        assertEquals(0, countFiles());
+    }
+
+    /**
+     * Tests playing the maze through the window the views see, with the start at its centre.
+     */
+    @Test
+    public void testWindow() {
+        EndlessMaze maze = makeMaze(4);
+        int origin = EndlessMaze.WINDOW_SIZE / 2;
+        assertEquals(EndlessMaze.WINDOW_SIZE, maze.getRows());
+        assertEquals(EndlessMaze.WINDOW_SIZE, maze.getCols());
+        assertEquals(maze.getRoomIndex(origin, origin), maze.getSelectedRoomIndex());
+        assertTrue(maze.getCurrentlySelectedRoom().isVisible());
+        assertNull(maze.getRoom(-1, origin));
+        assertNull(maze.getHintRoom());
+        assertNull(maze.takeDirtyCells());
+
+        int[] locked = findLocked(maze);
+        int row = locked[0] + origin;
+        int col = locked[1] + origin;
+        Room room = maze.getRoom(row, col);
+        assertTrue(room.isAnswerable());
+        maze.setSelectedRoom(room);
+        assertEquals(maze.getRoomIndex(row, col), maze.getSelectedRoomIndex());
+        assertEquals(room, maze.getCurrentlySelectedRoom());
+
+        assertTrue(room.checkAnswer(room.getQuestion().getAnswer()));
+        int[] changed = maze.updateVisibilityAround(room);
+        assertEquals(maze.getRoomIndex(row, col), changed[0]);
+        assertEquals(Visibility.VISIBLE, maze.getVisibility(locked[0], locked[1]));
+        assertEquals(2, maze.getRoomsDiscovered());
+        for (int i = 1; i < changed.length; i++) {
+            assertEquals(Visibility.LOCKED, maze.getVisibility(changed[i] / EndlessMaze.WINDOW_SIZE - origin,
+                    changed[i] % EndlessMaze.WINDOW_SIZE - origin));
+        }
+        List<Integer> dirty = new ArrayList<>();
+        for (int cell : maze.takeDirtyCells()) {
+            dirty.add(cell);
+        }
+        for (int cell : changed) {
+            assertTrue(dirty.contains(cell));
+        }
+    }
+
+    /**
+     * Makes an endless maze with small chunks.
+     *
+     * @param theCachedChunks the number of chunks kept in memory.
+     * @return the maze.
+     */
+    private EndlessMaze makeMaze(final int theCachedChunks) {
+        return makeMaze(theCachedChunks, new ListQuestionSource(myQuestions));
+    }
+
+    /**
+     * Makes an endless maze with small chunks, closed after the test.
+     *
+     * @param theCachedChunks the number of chunks kept in memory.
+     * @param theSource the source of the questions.
+     * @return the maze.
+     */
+    private EndlessMaze makeMaze(final int theCachedChunks, final QuestionSource theSource) {
+        EndlessMaze maze = new EndlessMaze(theSource, 77L, new RecursiveBacktrackerGenerator(), 8,
+                theCachedChunks, mySpillDirectory);
+        myMazes.add(maze);
+        return maze;
+    }
+
+    /**
+     * Finds a LOCKED room next to the start.
+     *
+     * @param theMaze the maze.
+     * @return the row and column of the room.
+     */
+    private int[] findLocked(final EndlessMaze theMaze) {
+        for (DoorDirection direction : DOOR_DIRECTIONS) {
+            if (theMaze.hasPassage(0, 0, direction)) {
+                return new int[]{step(0, direction, true), step(0, direction, false)};
+            }
+        }
+        fail("The start has no passage");
+        return null;
+    }
+
+    /**
+     * Counts the LOCKED rooms in a square around the start.
+     *
+     * @param theMaze the maze.
+     * @return the number of LOCKED rooms.
+     */
+    private int countLocked(final EndlessMaze theMaze) {
+        int count = 0;
+        for (int row = -20; row < 20; row++) {
+            for (int col = -20; col < 20; col++) {
+                if (theMaze.getVisibility(row, col) == Visibility.LOCKED) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the files in the spill directory.
+     *
+     * @return the number of files.
+     * @throws IOException if the directory cannot be listed.
+     */
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(mySpillDirectory)) {
+            return files.count();
+        }
+    }
+
+    /**
+     * Describes the doors, fills and questions of the rooms in a square around the start.
+     *
+     * @param theMaze the maze.
+     * @param theRows the number of rows to describe.
+     * @param theCols the number of columns to describe.
+     * @return the description.
+     */
+    private String describe(final EndlessMaze theMaze, final int theRows, final int theCols) {
+        StringBuilder description = new StringBuilder();
+        for (int row = -theRows / 2; row < theRows / 2; row++) {
+            for (int col = -theCols / 2; col < theCols / 2; col++) {
+                for (DoorDirection direction : DOOR_DIRECTIONS) {
+                    description.append(theMaze.isDoorOpen(row, col, direction) ? '1' : '0');
+                }
+                Question question = theMaze.getQuestion(row, col);
+                description.append(theMaze.getFill(row, col).ordinal())
+                        .append(question == null ? "-" : question.getPrompt()).append(';');
+            }
+        }
+        return description.toString();
+    }
+
+    /**
+     * Moves a row or column one step in a direction.
+     *
+     * @param thePosition the row or column.
+     * @param theNESW the direction.
+     * @param theIsRow whether the position is a row.
+     * @return the moved position.
+     */
+    private int step(final int thePosition, final DoorDirection theNESW, final boolean theIsRow) {
+        return switch (theNESW) {
+            case NORTH -> theIsRow ? thePosition - 1 : thePosition;
+            case SOUTH -> theIsRow ? thePosition + 1 : thePosition;
+            case EAST -> theIsRow ? thePosition : thePosition + 1;
+            case WEST -> theIsRow ? thePosition : thePosition - 1;
+        };
+    }
+}
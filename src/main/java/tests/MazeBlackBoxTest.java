@@ -1,6 +1,8 @@
 package tests;
 
 import model.*;
+import model.generation.OpenGridGenerator;
+import model.generation.RecursiveBacktrackerGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
@@ -66,7 +68,7 @@ public final class MazeBlackBoxTest {
         q.add(myQuestions[1]);
         q.add(myQuestions[2]);
         q.add(myQuestions[3]);
-        myMaze = new Maze(q, 2, 2);
+        myMaze = new Maze(q, 2, 2, new OpenGridGenerator());
 
         // player setup
         myPlayer = new Player("name", 3, 2);
@@ -115,6 +117,69 @@ public final class MazeBlackBoxTest {
         assertTrue(myMaze.getRoom(row2, col2).isAnswerable());
     }
 
+    /**
+     * Tests that updating the visibility around each answered room gives the same result as
+     * updating the visibility of the whole maze.
+     */
+    @Test
+    public void testIncrementalVisibility() {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 30 * 30; i++) {
+            questions.add(new BooleanQuestion("Question " + i, true));
+        }
+        Maze maze = new Maze(questions, 30, 30);
+
+        boolean foundLocked = true;
+        while (foundLocked) {
+            foundLocked = false;
+            for (int i = 0; i < maze.getRows() && !foundLocked; i++) {
+                for (int j = 0; j < maze.getCols() && !foundLocked; j++) {
+                    Room room = maze.getRoom(i, j);
+                    if (room.isAnswerable()) {
+                        foundLocked = true;
+                        assertTrue(room.checkAnswer("true"));
+                        int[] changed = maze.updateVisibilityAround(room);
+                        assertEquals(i * maze.getCols() + j, changed[0]);
+
+                        Visibility[] incremental = snapshotVisibility(maze);
+                        maze.updateRoomVisibility();
+                        assertArrayEquals(incremental, snapshotVisibility(maze));
+                    }
+                }
+            }
+        }
+
+        // every room can be reached, so answering every locked room reveals the whole maze
+        for (int i = 0; i < maze.getRows(); i++) {
+            for (int j = 0; j < maze.getCols(); j++) {
+                assertTrue(maze.getRoom(i, j).isVisible());
+            }
+        }
+    }
+
+    /**
+     * Copies the visibility of every room of a maze.
+     *
+     * @param theMaze the maze.
+     * @return the visibility of every room in row-major order.
+     */
+    private Visibility[] snapshotVisibility(final Maze theMaze) {
+        Visibility[] result = new Visibility[theMaze.getRows() * theMaze.getCols()];
+        for (int i = 0; i < theMaze.getRows(); i++) {
+            for (int j = 0; j < theMaze.getCols(); j++) {
+                Room room = theMaze.getRoom(i, j);
+                if (room.isVisible()) {
+                    result[i * theMaze.getCols() + j] = Visibility.VISIBLE;
+                } else if (room.isAnswerable()) {
+                    result[i * theMaze.getCols() + j] = Visibility.LOCKED;
+                } else {
+                    result[i * theMaze.getCols() + j] = Visibility.MYSTERY;
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Tests the getRows and getCols methods.
      */
@@ -245,6 +310,87 @@ public final class MazeBlackBoxTest {
                 theTestInfo[RoomArrayValues.ROOM_HIGHLIGHT.ordinal()]);
     }
 
+    /**
+     * Tests that the same seed always builds the same maze and that the seed is kept.
+     */
+    @Test
+    public void testSeededMazeIsReproducible() {
+        Maze first = new Maze(makeQuestions(30), 5, 6, new RecursiveBacktrackerGenerator(), 1234L);
+        Maze second = new Maze(makeQuestions(30), 5, 6, new RecursiveBacktrackerGenerator(), 1234L);
+        Maze other = new Maze(makeQuestions(30), 5, 6, new RecursiveBacktrackerGenerator(), 4321L);
+        assertEquals(1234L, first.getSeed());
+
+        assertEquals(snapshotLayout(first), snapshotLayout(second));
+        assertNotEquals(snapshotLayout(first), snapshotLayout(other));
+    }
+
+    /**
+     * Tests that a maze built from a question source only gives questions to LOCKED rooms,
+     * so it can be much larger than the question bank.
+     */
+    @Test
+    public void testLazyQuestionBinding() {
+        List<Question> bank = makeQuestions(3);
+        Maze maze = new Maze(new ListQuestionSource(bank), 100, 100, new RecursiveBacktrackerGenerator(), 8L);
+        int bound = 0;
+        for (int row = 0; row < maze.getRows(); row++) {
+            for (int col = 0; col < maze.getCols(); col++) {
+                Room room = maze.getRoom(row, col);
+                assertEquals(room.isAnswerable(), room.getQuestion() != null);
+                if (room.getQuestion() != null) {
+                    assertTrue(bank.contains(room.getQuestion()));
+                    bound++;
+                }
+            }
+        }
+        assertTrue(bound >= 1 && bound <= 4);
+
+        // answering a room gives its newly locked neighbours their questions
+        Room locked = maze.getHintRoom();
+        locked.setVisibility(Visibility.VISIBLE);
+        for (int index : maze.updateVisibilityAround(locked)) {
+            Room changed = maze.getRoom(index / maze.getCols(), index % maze.getCols());
+            assertNotNull(changed.getQuestion());
+        }
+    }
+
+    /**
+     * Makes a list of distinct questions.
+     *
+     * @param theCount the number of questions.
+     * @return the questions.
+     */
+    private List<Question> makeQuestions(final int theCount) {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < theCount; i++) {
+            questions.add(new BooleanQuestion("Question " + i, true));
+        }
+        return questions;
+    }
+
+    /**
+     * Describes the doors, fills, questions, endpoint and start of a maze as a string.
+     * Every room is made visible after its starting visibility is recorded so that its fill is included.
+     *
+     * @param theMaze the maze to describe.
+     * @return the description of the maze.
+     */
+    private String snapshotLayout(final Maze theMaze) {
+        StringBuilder layout = new StringBuilder();
+        for (int row = 0; row < theMaze.getRows(); row++) {
+            for (int col = 0; col < theMaze.getCols(); col++) {
+                Room room = theMaze.getRoom(row, col);
+                layout.append(room.isEndpoint() ? 'E' : '.').append(room.isVisible() ? 'V' : room.isMystery() ? 'M' : 'L');
+                room.setVisibility(Visibility.VISIBLE);
+                for (RoomInfo info : room.getRoomInfo()) {
+                    layout.append(info.ordinal()).append(',');
+                }
+                layout.append(room.getQuestion().getPrompt()).append(';');
+            }
+        }
+        return layout.toString();
+    }
+
     /**
      * Tests the SerialWrapper class
      */
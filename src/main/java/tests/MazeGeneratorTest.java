@@ -0,0 +1,207 @@
+package tests;
+
+import model.RoomEnums.DoorDirection;
+import model.RoomGrid;
+import model.generation.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+import static model.RoomEnums.inverseDoorDirection;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the maze generators carve valid perfect mazes.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class MazeGeneratorTest {
+
+    /** The generators that carve perfect mazes. */
+    private static final MazeGenerator[] PERFECT_GENERATORS = {
+            new RecursiveBacktrackerGenerator(),
+            new KruskalGenerator(),
+            new WilsonGenerator(),
+            new EllerGenerator()
+    };
+
+    /**
+     * Tests that every generator carves a perfect maze on grids of different shapes.
+     */
+    @Test
+    public void testPerfectMazes() {
+        int[][] shapes = {{1, 1}, {1, 7}, {7, 1}, {2, 2}, {5, 7}, {40, 60}};
+        for (MazeGenerator generator : PERFECT_GENERATORS) {
+            for (int[] shape : shapes) {
+                RoomGrid grid = new RoomGrid(shape[0], shape[1]);
+                generator.generate(grid, new Random(42));
+                assertPerfectMaze(grid, generator.getClass().getSimpleName());
+            }
+        }
+    }
+
+    /**
+     * Tests that long, thin grids do not run out of stack.
+     * Wilson's random walks take quadratic time on a single line, so it is left out here.
+     */
+    @Test
+    public void testLongCorridors() {
+        MazeGenerator[] generators = {
+                new RecursiveBacktrackerGenerator(),
+                new KruskalGenerator(),
+                new EllerGenerator()
+        };
+        for (MazeGenerator generator : generators) {
+            RoomGrid grid = new RoomGrid(1, 200_000);
+            generator.generate(grid, new Random(7));
+            assertPerfectMaze(grid, generator.getClass().getSimpleName());
+
+            grid = new RoomGrid(200_000, 1);
+            generator.generate(grid, new Random(7));
+            assertPerfectMaze(grid, generator.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Tests that every generator handles a large grid.
+     */
+    @Test
+    public void testLargeGrid() {
+        for (MazeGenerator generator : PERFECT_GENERATORS) {
+            RoomGrid grid = new RoomGrid(700, 700);
+            generator.generate(grid, new Random(3));
+            assertPerfectMaze(grid, generator.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Tests that the open grid generator opens every inner door.
+     */
+    @Test
+    public void testOpenGrid() {
+        RoomGrid grid = new RoomGrid(3, 4);
+        new OpenGridGenerator().generate(grid, new Random(1));
+        assertConsistentDoors(grid);
+        assertEquals(3 * 3 + 2 * 4, countPassages(grid));
+    }
+
+    /**
+     * Tests that the endpoint is picked from the requested band of path distances.
+     */
+    @Test
+    public void testEndpointPlacement() {
+        RoomGrid line = new RoomGrid(1, 1000);
+        new RecursiveBacktrackerGenerator().generate(line, new Random(5));
+        Random random = new Random(11);
+        for (int i = 0; i < 100; i++) {
+            int end = new EndpointPlacer().placeEnd(line, 0, random);
+            assertTrue(end >= 750, "end " + end + " is too close to the start");
+        }
+        assertEquals(999, new EndpointPlacer(1, 1).placeEnd(line, 0, random));
+        assertEquals(0, new EndpointPlacer(1, 1).placeEnd(line, 500, random));
+        assertEquals(1, new EndpointPlacer(0, 0).placeEnd(line, 0, random));
+
+        // rooms at the same distance as the band edge are never split off
+        RoomGrid open = new RoomGrid(3, 3);
+        new OpenGridGenerator().generate(open, random);
+        for (int i = 0; i < 100; i++) {
+            int end = new EndpointPlacer(0, 0).placeEnd(open, 4, random);
+            assertTrue(end == 1 || end == 3 || end == 5 || end == 7);
+        }
+
+        assertEquals(0, new EndpointPlacer().placeEnd(new RoomGrid(1, 1), 0, random));
+        assertThrows(IllegalArgumentException.class, () -> new EndpointPlacer(0.8, 0.2));
+        assertThrows(IllegalArgumentException.class, () -> new EndpointPlacer(-0.1, 1));
+    }
+
+    /**
+     * Tests that placing the endpoint on a long, thin maze takes a single pass.
+     */
+    @Test
+    public void testEndpointPlacementOnLongCorridor() {
+        RoomGrid grid = new RoomGrid(1, 200_000);
+        new EllerGenerator().generate(grid, new Random(9));
+        int end = new EndpointPlacer(1, 1).placeEnd(grid, 0, new Random(9));
+        assertEquals(199_999, end);
+    }
+
+    /**
+     * Asserts that the grid holds a perfect maze: every cell is connected and there are no loops.
+     *
+     * @param theGrid the grid to check.
+     * @param theName the name of the generator, for failure messages.
+     */
+    private void assertPerfectMaze(final RoomGrid theGrid, final String theName) {
+        assertConsistentDoors(theGrid);
+        assertEquals(theGrid.size() - 1, countPassages(theGrid), theName + " passage count");
+        assertEquals(theGrid.size(), countReachable(theGrid), theName + " reachable cells");
+    }
+
+    /**
+     * Asserts that the doors match on both sides and that the outer wall is closed.
+     *
+     * @param theGrid the grid to check.
+     */
+    private void assertConsistentDoors(final RoomGrid theGrid) {
+        for (int cell = 0; cell < theGrid.size(); cell++) {
+            for (DoorDirection direction : DOOR_DIRECTIONS) {
+                int neighbour = theGrid.neighbourOf(cell, direction);
+                if (neighbour < 0) {
+                    assertFalse(theGrid.isDoorOpen(cell, direction));
+                } else {
+                    assertEquals(theGrid.isDoorOpen(cell, direction),
+                            theGrid.isDoorOpen(neighbour, inverseDoorDirection(direction)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the passages of the grid, each passage is counted once.
+     *
+     * @param theGrid the grid.
+     * @return the number of passages.
+     */
+    private int countPassages(final RoomGrid theGrid) {
+        int count = 0;
+        for (int cell = 0; cell < theGrid.size(); cell++) {
+            if (theGrid.isDoorOpen(cell, DoorDirection.EAST)) {
+                count++;
+            }
+            if (theGrid.isDoorOpen(cell, DoorDirection.SOUTH)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the cells that can be reached from the first cell.
+     *
+     * @param theGrid the grid.
+     * @return the number of reachable cells.
+     */
+    private int countReachable(final RoomGrid theGrid) {
+        boolean[] seen = new boolean[theGrid.size()];
+        int[] queue = new int[theGrid.size()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = 0;
+        seen[0] = true;
+        while (head < tail) {
+            int cell = queue[head++];
+            for (DoorDirection direction : DOOR_DIRECTIONS) {
+                if (theGrid.isDoorOpen(cell, direction)) {
+                    int neighbour = theGrid.neighbourOf(cell, direction);
+                    if (!seen[neighbour]) {
+                        seen[neighbour] = true;
+                        queue[tail++] = neighbour;
+                    }
+                }
+            }
+        }
+        return tail;
+    }
+}
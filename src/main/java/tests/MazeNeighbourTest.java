@@ -0,0 +1,161 @@
+package tests;
+
+import model.*;
+import model.generation.OpenGridGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the index based neighbour iteration of the maze.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class MazeNeighbourTest {
+
+    /** The number of rows of the maze to be tested. */
+    private static final int ROWS = 40;
+
+    /** The number of columns of the maze to be tested. */
+    private static final int COLS = 50;
+
+    /** The maze to be tested. */
+    private Maze myMaze;
+
+    /**
+     * To be run before each test to set up the objects.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < ROWS * COLS; i++) {
+            questions.add(new BooleanQuestion("Question " + i, true));
+        }
+        myMaze = new Maze(questions, ROWS, COLS);
+    }
+
+    /**
+     * Tests the neighbour indices on the inside and at the border of the maze.
+     */
+    @Test
+    public void testNeighbourIndices() {
+        int corner = myMaze.getRoomIndex(0, 0);
+        assertEquals(-1, myMaze.getNeighbourIndex(corner, 0));
+        assertEquals(myMaze.getRoomIndex(0, 1), myMaze.getNeighbourIndex(corner, 1));
+        assertEquals(myMaze.getRoomIndex(1, 0), myMaze.getNeighbourIndex(corner, 2));
+        assertEquals(-1, myMaze.getNeighbourIndex(corner, 3));
+
+        int endOfRow = myMaze.getRoomIndex(3, COLS - 1);
+        assertEquals(-1, myMaze.getNeighbourIndex(endOfRow, 1));
+        assertEquals(myMaze.getRoomIndex(3, COLS - 2), myMaze.getNeighbourIndex(endOfRow, 3));
+
+        int lastRow = myMaze.getRoomIndex(ROWS - 1, 5);
+        assertEquals(-1, myMaze.getNeighbourIndex(lastRow, 2));
+        assertEquals(myMaze.getRoomIndex(ROWS - 2, 5), myMaze.getNeighbourIndex(lastRow, 0));
+    }
+
+    /**
+     * Tests that the index based passages match the row and column based passages.
+     */
+    @Test
+    public void testPassagesMatch() {
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLS; col++) {
+                int index = myMaze.getRoomIndex(row, col);
+                for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+                    int neighbour = myMaze.getNeighbourIndex(index, direction);
+                    if (neighbour < 0) {
+                        assertFalse(myMaze.hasPassage(index, direction));
+                    } else {
+                        assertEquals(myMaze.hasPassageBetween(row, col, neighbour / COLS, neighbour % COLS),
+                                myMaze.hasPassage(index, direction));
+                    }
+                }
+            }
+        }
+
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            questions.add(new BooleanQuestion("Question " + i, true));
+        }
+        Maze open = new Maze(questions, 2, 2, new OpenGridGenerator());
+        assertTrue(open.hasPassageBetween(0, 0, 0, 1));
+        assertFalse(open.hasPassageBetween(0, 0, 1, 1));
+        assertFalse(open.hasPassageBetween(0, 0, -1, 0));
+    }
+
+    /**
+     * Tests that walking the maze through the neighbour iteration allocates nothing per step.
+     */
+    @Test
+    public void testNeighbourIterationDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        // warm up so the measurement does not include class loading or compilation
+        long checksum = walkNeighbours(10);
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        checksum += walkNeighbours(500);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        long steps = 500L * ROWS * COLS * DOOR_DIRECTIONS.length;
+        assertTrue(checksum > 0);
+        assertTrue(allocated < 1024,
+                allocated + " bytes were allocated over " + steps + " neighbour steps");
+    }
+
+    /**
+     * Tests that a full visibility update only allocates its scratch arrays, independent of the
+     * number of rooms it walks.
+     */
+    @Test
+    public void testFullVisibilityUpdateAllocation() {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLS; col++) {
+                myMaze.getRoom(row, col).setVisibility(RoomEnums.Visibility.VISIBLE);
+            }
+        }
+        myMaze.updateRoomVisibility();
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        myMaze.updateRoomVisibility();
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        // one boolean and one int per room, plus array headers
+        assertTrue(allocated < ROWS * COLS * 5L + 1024, allocated + " bytes were allocated");
+    }
+
+    /**
+     * Visits every passage of the maze a number of times.
+     *
+     * @param theRepetitions the number of times to visit every passage.
+     * @return the number of passages found, so the work cannot be skipped.
+     */
+    private long walkNeighbours(final int theRepetitions) {
+        long passages = 0;
+        int size = ROWS * COLS;
+        for (int repetition = 0; repetition < theRepetitions; repetition++) {
+            for (int index = 0; index < size; index++) {
+                for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+                    if (myMaze.hasPassage(index, direction)) {
+                        passages += myMaze.getNeighbourIndex(index, direction);
+                    }
+                }
+            }
+        }
+        return passages;
+    }
+}
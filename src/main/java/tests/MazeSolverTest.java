@@ -0,0 +1,153 @@
+package tests;
+
+import model.*;
+import model.RoomEnums.DoorDirection;
+import model.RoomEnums.Visibility;
+import model.generation.*;
+import model.solver.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the maze solvers find valid shortest paths and that mazes can give hints.
+ *
+ * @author Jacob Klymenko
+ * @version 1.0
+ */
+public final class MazeSolverTest {
+
+    /** The solvers to be tested. */
+    private static final MazeSolver[] SOLVERS = {
+            new BreadthFirstSolver(),
+            new AStarSolver(),
+            new BidirectionalSolver()
+    };
+
+    /**
+     * Tests that every solver finds a valid path of the same, shortest, length on mazes with loops.
+     */
+    @Test
+    public void testSolversAgree() {
+        Random random = new Random(17);
+        for (int round = 0; round < 30; round++) {
+            RoomGrid grid = makeBraidedMaze(1 + random.nextInt(30), 1 + random.nextInt(30), random);
+            int start = random.nextInt(grid.size());
+            int goal = random.nextInt(grid.size());
+            int length = SOLVERS[0].findPath(grid, start, goal).length;
+            for (MazeSolver solver : SOLVERS) {
+                int[] path = solver.findPath(grid, start, goal);
+                assertValidPath(grid, path, start, goal);
+                assertEquals(length, path.length, solver.getClass().getSimpleName());
+            }
+        }
+    }
+
+    /**
+     * Tests the paths between a room and itself and between rooms that are not connected.
+     */
+    @Test
+    public void testEdgeCases() {
+        RoomGrid grid = new RoomGrid(2, 3);
+        grid.carvePassage(0, DoorDirection.EAST);
+        for (MazeSolver solver : SOLVERS) {
+            assertArrayEquals(new int[]{4}, solver.findPath(grid, 4, 4));
+            assertEquals(4, solver.nextRoom(grid, 4, 4));
+            assertArrayEquals(new int[]{0, 1}, solver.findPath(grid, 0, 1));
+            assertEquals(1, solver.nextRoom(grid, 0, 1));
+            assertSame(MazeSolver.NO_PATH, solver.findPath(grid, 0, 5));
+            assertEquals(-1, solver.nextRoom(grid, 0, 5));
+        }
+    }
+
+    /**
+     * Tests that every solver handles a large maze with a long corridor.
+     */
+    @Test
+    public void testLargeMaze() {
+        RoomGrid grid = new RoomGrid(1500, 1500);
+        new RecursiveBacktrackerGenerator().generate(grid, new Random(23));
+        int length = SOLVERS[0].findPath(grid, 0, grid.size() - 1).length;
+        for (MazeSolver solver : SOLVERS) {
+            int[] path = solver.findPath(grid, 0, grid.size() - 1);
+            assertValidPath(grid, path, 0, grid.size() - 1);
+            assertEquals(length, path.length, solver.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Tests that the maze gives its solution and points the hint at the next room to answer.
+     */
+    @Test
+    public void testMazeHint() {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 35; i++) {
+            questions.add(new BooleanQuestion("Question " + i, true));
+        }
+        Maze maze = new Maze(questions, 5, 7, new RecursiveBacktrackerGenerator(), 99L);
+        int[] solution = maze.getSolution();
+        assertTrue(solution.length > 1);
+        int end = solution[solution.length - 1];
+        assertTrue(maze.getRoom(end / 7, end % 7).isEndpoint());
+        assertTrue(maze.getRoom(solution[0] / 7, solution[0] % 7).isVisible());
+
+        // answering the hinted rooms one by one walks the solution
+        for (int i = 1; i < solution.length; i++) {
+            Room hint = maze.getHintRoom();
+            assertEquals(maze.getRoom(solution[i] / 7, solution[i] % 7), hint);
+            assertTrue(hint.isAnswerable());
+            hint.setVisibility(Visibility.VISIBLE);
+            maze.updateVisibilityAround(hint);
+        }
+        assertNull(maze.getHintRoom());
+    }
+
+    /**
+     * Makes a maze and then opens some extra doors, so there are loops and several routes.
+     *
+     * @param theRows the number of rows.
+     * @param theCols the number of columns.
+     * @param theRandom the random number generator.
+     * @return the maze.
+     */
+    private RoomGrid makeBraidedMaze(final int theRows, final int theCols, final Random theRandom) {
+        RoomGrid grid = new RoomGrid(theRows, theCols);
+        new RecursiveBacktrackerGenerator().generate(grid, theRandom);
+        for (int i = 0; i < grid.size() / 5; i++) {
+            int cell = theRandom.nextInt(grid.size());
+            DoorDirection direction = DOOR_DIRECTIONS[theRandom.nextInt(DOOR_DIRECTIONS.length)];
+            if (grid.neighbourOf(cell, direction) >= 0) {
+                grid.carvePassage(cell, direction);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Asserts that a path starts and ends in the right rooms and only moves through passages.
+     *
+     * @param theGrid the grid.
+     * @param thePath the path.
+     * @param theStart the room the path should start at.
+     * @param theGoal the room the path should end at.
+     */
+    private void assertValidPath(final RoomGrid theGrid, final int[] thePath, final int theStart,
+                                 final int theGoal) {
+        assertEquals(theStart, thePath[0]);
+        assertEquals(theGoal, thePath[thePath.length - 1]);
+        for (int i = 1; i < thePath.length; i++) {
+            boolean connected = false;
+            for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+                if (theGrid.neighbourOf(thePath[i - 1], direction) == thePath[i]) {
+                    connected = theGrid.hasPassage(thePath[i - 1], direction);
+                }
+            }
+            assertTrue(connected, "no passage between " + thePath[i - 1] + " and " + thePath[i]);
+        }
+    }
+}
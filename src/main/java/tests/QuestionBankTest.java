@@ -0,0 +1,153 @@
+package tests;
+
+import model.*;
+import model.QuestionEnums.Difficulty;
+import model.QuestionEnums.QuestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the indexes and filters of the QuestionBank class.
+ *
+ * @author Mathew Miller
+ * @version 1.0
+ */
+public final class QuestionBankTest {
+
+    /** The questions put into the bank. */
+    private List<Question> myQuestions;
+
+    /** The bank to be tested. */
+    private QuestionBank myBank;
+
+    /**
+     * To be run before each test to set up the objects.
+     */
+    @BeforeEach
+    public void setUp() {
+        myQuestions = new ArrayList<>();
+        myQuestions.add(new BooleanQuestion("Is snow cold?", true, Difficulty.EASY, "Weather"));
+        myQuestions.add(new TextInputQuestion("Who comes down the chimney?", "Santa"));
+        myQuestions.add(new MultipleChoiceQuestion("Which is B?", "B", new ArrayList<>(List.of("A", "C", "D")),
+                Difficulty.HARD, "Letters"));
+        myQuestions.add(new BooleanQuestion("Do reindeer fly?", true, Difficulty.HARD, "Weather"));
+        myQuestions.add(new MultipleChoiceQuestion("Which is Z?", "Z", new ArrayList<>(List.of("X", "Y")),
+                Difficulty.EASY, "Letters"));
+        myQuestions.add(new BooleanQuestion("Is December in winter?", false));
+        myBank = new QuestionBank(myQuestions);
+    }
+
+    /**
+     * Tests the defaults of questions without a difficulty or category.
+     */
+    @Test
+    public void testQuestionDefaults() {
+        final Question question = myQuestions.get(1);
+        assertEquals(QuestionType.TEXT_INPUT, question.getType());
+        assertEquals(Question.DEFAULT_DIFFICULTY, question.getDifficulty());
+        assertEquals(Question.DEFAULT_CATEGORY, question.getCategory());
+    }
+
+    /**
+     * Tests that the bank keeps every question and its categories.
+     */
+    @Test
+    public void testContents() {
+        assertEquals(6, myBank.size());
+        assertFalse(myBank.isEmpty());
+        assertEquals(myQuestions, myBank.getQuestions());
+        assertEquals(List.of("Weather", Question.DEFAULT_CATEGORY, "Letters"), myBank.getCategories());
+        assertTrue(new QuestionBank(new ArrayList<>()).isEmpty());
+    }
+
+    /**
+     * Tests selecting by a single type, difficulty and category.
+     */
+    @Test
+    public void testSingleFilters() {
+        assertEquals(6, myBank.select(QuestionBank.Filter.ANY).size());
+        assertEquals(Set.of(myQuestions.get(0), myQuestions.get(3), myQuestions.get(5)),
+                new HashSet<>(myBank.select(QuestionBank.Filter.ANY.withTypes(QuestionType.BOOLEAN))));
+        assertEquals(Set.of(myQuestions.get(2), myQuestions.get(3)),
+                new HashSet<>(myBank.select(QuestionBank.Filter.ANY.withDifficulties(Difficulty.HARD))));
+        assertEquals(Set.of(myQuestions.get(2), myQuestions.get(4)),
+                new HashSet<>(myBank.select(QuestionBank.Filter.ANY.withCategories("Letters"))));
+    }
+
+    /**
+     * Tests selecting the intersection of several filters.
+     */
+    @Test
+    public void testIntersections() {
+        final QuestionBank.Filter hardBoolean = QuestionBank.Filter.ANY
+                .withTypes(QuestionType.BOOLEAN).withDifficulties(Difficulty.HARD);
+        assertEquals(List.of(myQuestions.get(3)), myBank.select(hardBoolean));
+
+        final QuestionBank.Filter easyWeatherOrLetters = QuestionBank.Filter.ANY
+                .withDifficulties(Difficulty.EASY).withCategories("Weather", "Letters");
+        assertEquals(Set.of(myQuestions.get(0), myQuestions.get(4)),
+                new HashSet<>(myBank.select(easyWeatherOrLetters)));
+
+        assertTrue(myBank.select(QuestionBank.Filter.ANY.withTypes(QuestionType.TEXT_INPUT)
+                .withDifficulties(Difficulty.HARD)).isEmpty());
+        assertTrue(myBank.select(QuestionBank.Filter.ANY.withCategories("Missing")).isEmpty());
+    }
+
+    /**
+     * Tests that a sampler over a selection draws each selected question once.
+     */
+    @Test
+    public void testSamplingSelection() {
+        final List<Question> selection = myBank.select(QuestionBank.Filter.ANY
+                .withTypes(QuestionType.MULTIPLE_CHOICE, QuestionType.BOOLEAN));
+        assertEquals(5, selection.size());
+        final QuestionSampler sampler = new QuestionSampler(selection, new Random(4));
+        final Set<Question> drawn = new HashSet<>();
+        while (sampler.hasNext()) {
+            assertTrue(drawn.add(sampler.next()));
+        }
+        assertEquals(new HashSet<>(selection), drawn);
+        assertFalse(drawn.contains(myQuestions.get(1)));
+    }
+
+    /**
+     * Tests that a sampler over a filter saves the filter rather than the selected questions,
+     * and selects them again once the bank is attached after loading.
+     *
+     * @throws Exception if the sampler could not be saved or loaded.
+     */
+    @Test
+    public void testSamplerSavesFilter() throws Exception {
+        final QuestionBank.Filter filter = QuestionBank.Filter.ANY.withCategories("Weather");
+        final QuestionSampler sampler = new QuestionSampler(myBank, filter, 11L);
+        final Question first = sampler.nextQuestion();
+        assertEquals("Weather", first.getCategory());
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(sampler);
+        }
+        final QuestionSampler loaded;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            loaded = (QuestionSampler) in.readObject();
+        }
+        loaded.attach(new QuestionBank(myQuestions));
+        for (int i = 0; i < 5; i++) {
+            final Question next = loaded.nextQuestion();
+            assertEquals(sampler.nextQuestion().getPrompt(), next.getPrompt());
+            assertEquals("Weather", next.getCategory());
+        }
+    }
+}
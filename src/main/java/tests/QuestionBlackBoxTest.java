@@ -4,8 +4,16 @@ import model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -75,4 +83,69 @@ public final class QuestionBlackBoxTest {
 
         assertEquals(cust, test);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the sampler draws every question of the bank once before repeating any.
+     */
+    @Test
+    public void testQuestionSampler() {
+        List<Question> bank = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            bank.add(new BooleanQuestion("Question " + i, true));
+        }
+        QuestionSampler sampler = new QuestionSampler(bank, new Random(3));
+        Set<Question> drawn = new HashSet<>();
+        while (sampler.hasNext()) {
+            assertTrue(drawn.add(sampler.next()));
+        }
+        assertEquals(new HashSet<>(bank), drawn);
+        assertThrows(NoSuchElementException.class, sampler::next);
+
+        // a source keeps going with a new shuffle, and the bank is left as it was
+        assertTrue(bank.contains(sampler.nextQuestion()));
+        assertEquals("Question 0", bank.get(0).getPrompt());
+        assertEquals(50, bank.size());
+
+        // the same seed draws the same questions
+        QuestionSampler first = new QuestionSampler(bank, new Random(9));
+        QuestionSampler second = new QuestionSampler(bank, new Random(9));
+        for (int i = 0; i < 20; i++) {
+            assertSame(first.next(), second.next());
+        }
+    }
+
+    /**
+     * Tests that a saved sampler only keeps its position, and carries on where it stopped once
+     * its bank is attached again.
+     *
+     * @throws Exception if the sampler could not be saved or loaded.
+     */
+    @Test
+    public void testQuestionSamplerSave() throws Exception {
+        List<Question> bank = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            bank.add(new TextInputQuestion("Question " + i, "Answer " + i));
+        }
+        QuestionSampler sampler = new QuestionSampler(bank, 5L);
+        for (int i = 0; i < 1200; i++) {
+            sampler.nextQuestion();
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(sampler);
+        }
+        // none of the questions are written, only the seed and the number of draws
+        assertTrue(bytes.size() < 300, "saved sampler was " + bytes.size() + " bytes");
+
+        QuestionSampler loaded;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            loaded = (QuestionSampler) in.readObject();
+        }
+        assertThrows(IllegalStateException.class, loaded::nextQuestion);
+        loaded.attach(bank);
+        for (int i = 0; i < 900; i++) {
+            assertSame(sampler.nextQuestion(), loaded.nextQuestion());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package tests;
+
+import model.*;
+import model.QuestionEnums.QuestionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests moving questions from the older per-type tables into the question tables, and reading
+ * them back, on a database held in memory.
+ *
+ * @author Mathew Miller
+ * @version 1.0
+ */
+public final class QuestionSchemaTest {
+
+    /** The connection to the in-memory database. */
+    private Connection myConn;
+
+    /**
+     * To be run before each test to fill the older tables the way the DataImporter did.
+     *
+     * @throws SQLException if the database could not be set up.
+     */
+    @BeforeEach
+    public void setUp() throws SQLException {
+        myConn = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = myConn.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE multiple_choice_question (question TEXT NOT NULL,"
+                    + " answer TEXT NOT NULL, wrong_answer_1 TEXT NOT NULL, wrong_answer_2 TEXT NOT NULL,"
+                    + " wrong_answer_3 TEXT NOT NULL)");
+            stmt.executeUpdate("CREATE TABLE boolean_question (question TEXT NOT NULL, answer BOOLEAN NOT NULL)");
+            stmt.executeUpdate("CREATE TABLE text_input_question (question TEXT NOT NULL, answer TEXT NOT NULL)");
+            stmt.executeUpdate("INSERT INTO multiple_choice_question VALUES"
+                    + " ('Which is B?', 'B', 'A', 'C', 'D'),"
+                    + " ('Which is Z?', 'Z', 'W', 'X', 'Y')");
+            stmt.executeUpdate("INSERT INTO boolean_question VALUES ('Is snow cold?', 1), ('Is June in winter?', 0)");
+            stmt.executeUpdate("INSERT INTO text_input_question VALUES ('Who comes down the chimney?', 'Santa')");
+        }
+        QuestionSchema.createTables(myConn);
+    }
+
+    /**
+     * To be run after each test to drop the in-memory database.
+     *
+     * @throws SQLException if the connection could not be closed.
+     */
+    @AfterEach
+    public void tearDown() throws SQLException {
+        myConn.close();
+    }
+
+    /**
+     * Tests that the migration copies every question once.
+     *
+     * @throws SQLException if the database could not be read.
+     */
+    @Test
+    public void testMigrateOnce() throws SQLException {
+        assertEquals(5, QuestionSchema.migrateLegacyTables(myConn));
+        assertEquals(0, QuestionSchema.migrateLegacyTables(myConn));
+        assertEquals(5, QuestionFactory.readQuestions(myConn).size());
+    }
+
+    /**
+     * Tests that every kind of question keeps its prompt and answers, and that the questions
+     * come back in the order they were moved.
+     *
+     * @throws SQLException if the database could not be read.
+     */
+    @Test
+    public void testMigratedQuestions() throws SQLException {
+        QuestionSchema.migrateLegacyTables(myConn);
+        final List<Question> questions = QuestionFactory.readQuestions(myConn);
+
+        assertEquals(List.of("Which is B?", "Which is Z?", "Is snow cold?", "Is June in winter?",
+                "Who comes down the chimney?"), questions.stream().map(Question::getPrompt).toList());
+        assertEquals(List.of(QuestionType.MULTIPLE_CHOICE, QuestionType.MULTIPLE_CHOICE, QuestionType.BOOLEAN,
+                QuestionType.BOOLEAN, QuestionType.TEXT_INPUT), questions.stream().map(Question::getType).toList());
+
+        assertEquals("B", questions.get(0).getAnswer());
+        assertEquals(Set.of("A", "B", "C", "D"),
+                new HashSet<>(((MultipleChoiceQuestion) questions.get(0)).getPossibleAnswers()));
+        assertEquals(4, ((MultipleChoiceQuestion) questions.get(0)).getPossibleAnswers().size());
+        assertEquals("true", questions.get(2).getAnswer());
+        assertEquals("false", questions.get(3).getAnswer());
+        assertEquals("Santa", questions.get(4).getAnswer());
+        assertEquals(Question.DEFAULT_DIFFICULTY, questions.get(4).getDifficulty());
+        assertEquals(Question.DEFAULT_CATEGORY, questions.get(4).getCategory());
+    }
+
+    /**
+     * Tests that the joined rows of neighbouring multiple choice questions are not mixed up.
+     *
+     * @throws SQLException if the database could not be read.
+     */
+    @Test
+    public void testChoicesGroupedByQuestion() throws SQLException {
+        QuestionSchema.migrateLegacyTables(myConn);
+        final List<Question> questions = QuestionFactory.readQuestions(myConn);
+
+        assertEquals("Z", questions.get(1).getAnswer());
+        assertEquals(Set.of("W", "X", "Y", "Z"),
+                new HashSet<>(((MultipleChoiceQuestion) questions.get(1)).getPossibleAnswers()));
+        assertEquals(4, ((MultipleChoiceQuestion) questions.get(1)).getPossibleAnswers().size());
+    }
+}
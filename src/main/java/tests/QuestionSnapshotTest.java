@@ -0,0 +1,133 @@
+package tests;
+
+import model.*;
+import model.QuestionEnums.Difficulty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests writing and reading the binary question snapshot.
+ *
+ * @author Mathew Miller
+ * @version 1.0
+ */
+public final class QuestionSnapshotTest {
+
+    /** The size of the pretend source database. */
+    private static final long SOURCE_SIZE = 16384;
+
+    /** The modification time of the pretend source database. */
+    private static final long SOURCE_MODIFIED = 1_700_000_000_000L;
+
+    /** The questions written to the snapshot. */
+    private List<Question> myQuestions;
+
+    /** The path of the snapshot. */
+    private Path mySnapshot;
+
+    /**
+     * To be run before each test to set up the objects.
+     *
+     * @throws IOException if the snapshot could not be written.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        myQuestions = new ArrayList<>();
+        myQuestions.add(new TextInputQuestion("Name the reindeer with a red nose.", "Rudolph"));
+        myQuestions.add(new MultipleChoiceQuestion("Which is B?", "B", new ArrayList<>(List.of("A", "C", "D"))));
+        myQuestions.add(new BooleanQuestion("Is this true?", true, Difficulty.HARD, "Logic"));
+        myQuestions.add(new BooleanQuestion("Schöne Bescherung ☃?", false));
+        mySnapshot = Files.createTempFile("questions", ".snapshot");
+        QuestionSnapshot.write(myQuestions, mySnapshot, SOURCE_SIZE, SOURCE_MODIFIED);
+    }
+
+    /**
+     * To be run after each test to remove the snapshot.
+     *
+     * @throws IOException if the snapshot could not be deleted.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(mySnapshot);
+    }
+
+    /**
+     * Tests that every question is read back from its own section.
+     */
+    @Test
+    public void testRoundTrip() {
+        final QuestionSnapshot snapshot = QuestionSnapshot.open(mySnapshot, SOURCE_SIZE, SOURCE_MODIFIED);
+        assertNotNull(snapshot);
+        assertEquals(1, snapshot.getCount(QuestionSnapshot.MULTIPLE_CHOICE));
+        assertEquals(2, snapshot.getCount(QuestionSnapshot.BOOLEAN));
+        assertEquals(1, snapshot.getCount(QuestionSnapshot.TEXT_INPUT));
+
+        final Question multipleChoice = snapshot.getQuestion(QuestionSnapshot.MULTIPLE_CHOICE, 0);
+        assertTrue(multipleChoice instanceof MultipleChoiceQuestion);
+        assertEquals("Which is B?", multipleChoice.getPrompt());
+        assertEquals("B", multipleChoice.getAnswer());
+        assertEquals(4, ((MultipleChoiceQuestion) multipleChoice).getPossibleAnswers().size());
+        assertTrue(((MultipleChoiceQuestion) multipleChoice).getPossibleAnswers().containsAll(List.of("A", "B", "C", "D")));
+
+        final Question tagged = snapshot.getQuestion(QuestionSnapshot.BOOLEAN, 0);
+        assertEquals(Difficulty.HARD, tagged.getDifficulty());
+        assertEquals("Logic", tagged.getCategory());
+        assertEquals(Question.DEFAULT_DIFFICULTY, multipleChoice.getDifficulty());
+
+        final Question unicode = snapshot.getQuestion(QuestionSnapshot.BOOLEAN, 1);
+        assertEquals("Schöne Bescherung ☃?", unicode.getPrompt());
+        assertTrue(unicode.checkAnswer("false"));
+
+        final Question textInput = snapshot.getQuestion(QuestionSnapshot.TEXT_INPUT, 0);
+        assertEquals("Rudolph", textInput.getAnswer());
+    }
+
+    /**
+     * Tests that the questions are read back in the order they were written, so a snapshot
+     * gives the same order as the database it was made from.
+     */
+    @Test
+    public void testGetQuestions() {
+        final QuestionSnapshot snapshot = QuestionSnapshot.open(mySnapshot, SOURCE_SIZE, SOURCE_MODIFIED);
+        final List<Question> questions = snapshot.getQuestions();
+        assertEquals(4, questions.size());
+        assertEquals(4, snapshot.size());
+        for (int i = 0; i < myQuestions.size(); i++) {
+            assertEquals(myQuestions.get(i).getPrompt(), questions.get(i).getPrompt());
+            assertEquals(myQuestions.get(i).getType(), questions.get(i).getType());
+        }
+        assertEquals("Rudolph", snapshot.getQuestion(0).getAnswer());
+        assertThrows(IndexOutOfBoundsException.class, () -> questions.get(4));
+        assertThrows(UnsupportedOperationException.class, () -> questions.remove(0));
+    }
+
+    /**
+     * Tests that a snapshot made from a different database is not used.
+     */
+    @Test
+    public void testStaleSnapshot() {
+        assertNull(QuestionSnapshot.open(mySnapshot, SOURCE_SIZE + 1, SOURCE_MODIFIED));
+        assertNull(QuestionSnapshot.open(mySnapshot, SOURCE_SIZE, SOURCE_MODIFIED + 1));
+    }
+
+    /**
+     * Tests that missing and malformed snapshots are not used.
+     *
+     * @throws IOException if the malformed file could not be written.
+     */
+    @Test
+    public void testInvalidSnapshot() throws IOException {
+        assertNull(QuestionSnapshot.open(mySnapshot.resolveSibling("missing.snapshot"), SOURCE_SIZE, SOURCE_MODIFIED));
+        Files.write(mySnapshot, new byte[]{1, 2, 3});
+        assertNull(QuestionSnapshot.open(mySnapshot, SOURCE_SIZE, SOURCE_MODIFIED));
+    }
+}
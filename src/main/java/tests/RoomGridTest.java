@@ -0,0 +1,171 @@
+package tests;
+
+import model.*;
+import model.RoomEnums.DoorDirection;
+import model.RoomEnums.RoomInfo;
+import model.RoomEnums.Visibility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the RoomGrid class and the room views of a maze.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class RoomGridTest {
+
+    /** The grid to be tested. */
+    private RoomGrid myGrid;
+
+    /**
+     * To be run before each test to set up the objects.
+     */
+    @BeforeEach
+    public void setUp() {
+        myGrid = new RoomGrid(3, 4);
+    }
+
+    /**
+     * Tests the default state of the cells.
+     */
+    @Test
+    public void testDefaults() {
+        assertEquals(3, myGrid.getRows());
+        assertEquals(4, myGrid.getCols());
+        assertEquals(12, myGrid.size());
+        for (int i = 0; i < myGrid.size(); i++) {
+            assertEquals(Visibility.MYSTERY, myGrid.getVisibility(i));
+            assertFalse(myGrid.isHighlighted(i));
+            assertFalse(myGrid.isEndpoint(i));
+            assertNull(myGrid.getQuestion(i));
+            for (DoorDirection direction : RoomEnums.DOOR_DIRECTIONS) {
+                assertFalse(myGrid.isDoorOpen(i, direction));
+            }
+        }
+    }
+
+    /**
+     * Tests the conversion of positions to indices.
+     */
+    @Test
+    public void testIndexOf() {
+        assertEquals(0, myGrid.indexOf(0, 0));
+        assertEquals(6, myGrid.indexOf(1, 2));
+        assertEquals(11, myGrid.indexOf(2, 3));
+        assertEquals(-1, myGrid.indexOf(3, 0));
+        assertEquals(-1, myGrid.indexOf(0, 4));
+        assertEquals(-1, myGrid.indexOf(-1, 0));
+    }
+
+    /**
+     * Tests that the packed fields of a cell do not overwrite each other.
+     */
+    @Test
+    public void testPackedFieldsAreIndependent() {
+        myGrid.setFill(5, RoomInfo.MOON);
+        myGrid.setVisibility(5, Visibility.LOCKED);
+        myGrid.setHighlighted(5, true);
+        myGrid.setEndpoint(5);
+        myGrid.setDoor(5, DoorDirection.EAST, true);
+        myGrid.setDoor(5, DoorDirection.WEST, true);
+
+        assertEquals(RoomInfo.MOON, myGrid.getFill(5));
+        assertEquals(Visibility.LOCKED, myGrid.getVisibility(5));
+        assertTrue(myGrid.isHighlighted(5));
+        assertTrue(myGrid.isEndpoint(5));
+        assertTrue(myGrid.isDoorOpen(5, DoorDirection.EAST));
+        assertTrue(myGrid.isDoorOpen(5, DoorDirection.WEST));
+        assertFalse(myGrid.isDoorOpen(5, DoorDirection.NORTH));
+
+        myGrid.setHighlighted(5, false);
+        myGrid.setDoor(5, DoorDirection.EAST, false);
+        myGrid.setVisibility(5, Visibility.VISIBLE);
+        assertEquals(RoomInfo.MOON, myGrid.getFill(5));
+        assertFalse(myGrid.isHighlighted(5));
+        assertTrue(myGrid.isEndpoint(5));
+        assertFalse(myGrid.isDoorOpen(5, DoorDirection.EAST));
+        assertTrue(myGrid.isDoorOpen(5, DoorDirection.WEST));
+
+        // neighbouring cells are untouched
+        assertEquals(Visibility.MYSTERY, myGrid.getVisibility(4));
+        assertEquals(Visibility.MYSTERY, myGrid.getVisibility(6));
+    }
+
+    /**
+     * Tests that the fill layer drawn for a cell follows its visibility and endpoint state.
+     */
+    @Test
+    public void testShownFill() {
+        myGrid.setFill(2, RoomInfo.MOON);
+        myGrid.setVisibility(2, Visibility.MYSTERY);
+        assertEquals(RoomInfo.MYSTERY, myGrid.getShownFill(2));
+        myGrid.setVisibility(2, Visibility.LOCKED);
+        assertEquals(RoomInfo.LOCKED, myGrid.getShownFill(2));
+        myGrid.setEndpoint(2);
+        assertEquals(RoomInfo.ENDPOINT_LOCKED, myGrid.getShownFill(2));
+        myGrid.setVisibility(2, Visibility.VISIBLE);
+        assertEquals(RoomInfo.MOON, myGrid.getShownFill(2));
+    }
+
+    /**
+     * Tests that only fill values can be used as a fill.
+     */
+    @Test
+    public void testInvalidFill() {
+        assertThrows(IllegalArgumentException.class, () -> myGrid.setFill(0, RoomInfo.LOCKED));
+    }
+
+    /**
+     * Tests that changed cells are logged once the log has been taken for the first time.
+     */
+    @Test
+    public void testDirtyCells() {
+        myGrid.setVisibility(1, Visibility.LOCKED);
+        assertNull(myGrid.takeDirtyCells());
+        assertArrayEquals(new int[0], myGrid.takeDirtyCells());
+
+        myGrid.setVisibility(2, Visibility.VISIBLE);
+        myGrid.setHighlighted(7, true);
+        myGrid.carvePassage(4, DoorDirection.EAST);
+        assertArrayEquals(new int[]{2, 7, 4, 5}, myGrid.takeDirtyCells());
+        assertArrayEquals(new int[0], myGrid.takeDirtyCells());
+
+        // more changes than cells means everything is redrawn
+        for (int i = 0; i <= myGrid.size(); i++) {
+            myGrid.setHighlighted(0, i % 2 == 0);
+        }
+        assertNull(myGrid.takeDirtyCells());
+        assertArrayEquals(new int[0], myGrid.takeDirtyCells());
+    }
+
+    /**
+     * Tests that rooms from a maze are views onto the same state.
+     */
+    @Test
+    public void testRoomViews() {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            questions.add(new BooleanQuestion("Question " + i, true));
+        }
+        Maze maze = new Maze(questions, 2, 2);
+
+        Room first = maze.getRoom(1, 1);
+        Room second = maze.getRoom(1, 1);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, maze.getRoom(0, 1));
+
+        first.setHigLig(true);
+        assertEquals(RoomInfo.WITH_HIGHLIGHT,
+                second.getRoomInfo()[RoomEnums.RoomArrayValues.ROOM_HIGHLIGHT.ordinal()]);
+
+        maze.setSelectedRoom(first);
+        assertEquals(second, maze.getCurrentlySelectedRoom());
+    }
+}
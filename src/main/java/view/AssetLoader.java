@@ -0,0 +1,291 @@
+package view;
+
+import javax.imageio.ImageIO;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Decodes the images, the font and the sound effects of the game. {@link #start} decodes all of
+ * them in parallel on background threads while the rest of the application starts, reporting
+ * its progress so a splash screen can show it. Each asset is held as a future, so a class that
+ * needs an asset only waits for that one to finish. An asset that is asked for before loading
+ * started is decoded on the calling thread, so the getters work without calling start.
+ *
+ * @author Mathew Miller
+ * @version 1.0
+ */
+public final class AssetLoader {
+
+    /** The resource path of the pixel font. */
+    public static final String FONT_PATH = "/fonts/PressStart2P-vaV7.ttf";
+
+    /** The resource path of the sound played after a right answer. */
+    public static final String RIGHT_ANSWER_SOUND = "/soundEffects/RightAnswer.wav";
+
+    /** The resource path of the sound played after a wrong answer. */
+    public static final String WRONG_ANSWER_SOUND = "/soundEffects/WrongAnswer.wav";
+
+    /** The resource path of the heart shown for health. */
+    public static final String HEART_IMAGE = "/statusBarFiles/heart.png";
+
+    /** The resource path of the light bulb shown for hints. */
+    public static final String LIGHTBULB_IMAGE = "/statusBarFiles/lightbulb.png";
+
+    /** The resource path of the room layer of each RoomInfo, by ordinal. */
+    static final String[] ROOM_LAYER_FILES = {
+            // door values
+            "/roomFiles/wiDoor/nWiDoor.png",
+            "/roomFiles/noDoor/nNoDoor.png",
+            "/roomFiles/wiDoor/eWiDoor.png",
+            "/roomFiles/noDoor/eNoDoor.png",
+            "/roomFiles/wiDoor/sWiDoor.png",
+            "/roomFiles/noDoor/sNoDoor.png",
+            "/roomFiles/wiDoor/wWiDoor.png",
+            "/roomFiles/noDoor/wNoDoor.png",
+
+            // status values
+            "/roomFiles/fillRoom/lockFillRoom.png",
+            "/roomFiles/fillRoom/mystFillRoom.png",
+
+            // extra status
+            "/roomFiles/fillRoom/permLockFillRoom.png",
+            "/roomFiles/fillRoom/vicLockFillRoom.png",
+
+            // highlight values
+            "/roomFiles/roomHigLig/roomWiHigLig.png",
+            "/roomFiles/roomHigLig/roomNoHigLig.png",
+
+            // basic values
+            "/roomFiles/fillRoom/lndscFillRoom.png",
+            "/roomFiles/fillRoom/santaFillRoom.png",
+            "/roomFiles/fillRoom/treeFillRoom.png",
+
+            // added values
+            "/roomFiles/fillRoom/fireplaceFillRoom.png",
+            "/roomFiles/fillRoom/giftsFillRoom.png",
+            "/roomFiles/fillRoom/moonFillRoom.png"
+    };
+
+    /** The images other than the room layers that are decoded by start. */
+    private static final String[] OTHER_IMAGES = {
+            HEART_IMAGE, LIGHTBULB_IMAGE, ImageCache.MAIN_MENU, ImageCache.WIN_SCREEN, ImageCache.LOSS_SCREEN
+    };
+
+    /** The sound effects that are decoded by start. */
+    private static final String[] SOUNDS = {RIGHT_ANSWER_SOUND, WRONG_ANSWER_SOUND};
+
+    /** The decoded images, by resource path. */
+    private static final Map<String, CompletableFuture<BufferedImage>> IMAGES = new ConcurrentHashMap<>();
+
+    /** The decoded fonts, by resource path. */
+    private static final Map<String, CompletableFuture<Font>> FONTS = new ConcurrentHashMap<>();
+
+    /** The decoded sound effects, by resource path. */
+    private static final Map<String, CompletableFuture<Sound>> SOUND_EFFECTS = new ConcurrentHashMap<>();
+
+    /**
+     * Receives the progress of the loading started by {@link #start}. It is called from the
+     * loading threads, not the event dispatch thread.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Called each time an asset has finished loading, or failed to.
+         *
+         * @param theLoaded the number of assets finished so far.
+         * @param theTotal the number of assets being loaded.
+         */
+        void onProgress(int theLoaded, int theTotal);
+    }
+
+    /**
+     * A sound effect decoded to raw samples, ready to be opened by a Clip.
+     */
+    public static final class Sound {
+
+        /** The format of the samples. */
+        private final AudioFormat myFormat;
+
+        /** The samples of the sound. */
+        private final byte[] myData;
+
+        /**
+         * Creates a decoded sound.
+         *
+         * @param theFormat the format of the samples.
+         * @param theData the samples of the sound.
+         */
+        private Sound(final AudioFormat theFormat, final byte[] theData) {
+            myFormat = theFormat;
+            myData = theData;
+        }
+
+        /**
+         * Gets the format of the samples.
+         *
+         * @return the audio format.
+         */
+        public AudioFormat getFormat() {
+            return myFormat;
+        }
+
+        /**
+         * Gets the samples of the sound. The array is shared, so it must not be changed.
+         *
+         * @return the samples.
+         */
+        public byte[] getData() {
+            return myData;
+        }
+    }
+
+    /** Private constructor to prevent instantiation. */
+    private AssetLoader() { /* do nothing */ }
+
+    /**
+     * Starts decoding every image, the font and every sound effect in parallel.
+     *
+     * @param theListener the listener told about the progress, may be null.
+     * @return a future that completes once every asset has finished loading.
+     */
+    public static CompletableFuture<Void> start(final ProgressListener theListener) {
+        final int total = ROOM_LAYER_FILES.length + OTHER_IMAGES.length + 1 + SOUNDS.length;
+        final AtomicInteger loaded = new AtomicInteger();
+        final CompletableFuture<?>[] all = new CompletableFuture<?>[total];
+        int next = 0;
+        for (final String path : ROOM_LAYER_FILES) {
+            all[next++] = IMAGES.computeIfAbsent(path, p -> loadAsync(p, AssetLoader::readImage));
+        }
+        for (final String path : OTHER_IMAGES) {
+            all[next++] = IMAGES.computeIfAbsent(path, p -> loadAsync(p, AssetLoader::readImage));
+        }
+        all[next++] = FONTS.computeIfAbsent(FONT_PATH, p -> loadAsync(p, AssetLoader::readFont));
+        for (final String path : SOUNDS) {
+            all[next++] = SOUND_EFFECTS.computeIfAbsent(path, p -> loadAsync(p, AssetLoader::readSound));
+        }
+        for (final CompletableFuture<?> future : all) {
+            future.whenComplete((theResult, theError) -> {
+                if (theListener != null) {
+                    theListener.onProgress(loaded.incrementAndGet(), total);
+                }
+            });
+        }
+        return CompletableFuture.allOf(all);
+    }
+
+    /**
+     * Gets an image, waiting for it if it is still being decoded.
+     *
+     * @param thePath the resource path of the image.
+     * @return the decoded image.
+     */
+    public static BufferedImage getImage(final String thePath) {
+        return IMAGES.computeIfAbsent(thePath, p -> loadNow(p, AssetLoader::readImage)).join();
+    }
+
+    /**
+     * Gets a font, waiting for it if it is still being decoded.
+     *
+     * @param thePath the resource path of the font.
+     * @return the decoded font, at a size of 1.
+     */
+    public static Font getFont(final String thePath) {
+        return FONTS.computeIfAbsent(thePath, p -> loadNow(p, AssetLoader::readFont)).join();
+    }
+
+    /**
+     * Gets a sound effect, waiting for it if it is still being decoded.
+     *
+     * @param thePath the resource path of the sound.
+     * @return the decoded sound.
+     */
+    public static Sound getSound(final String thePath) {
+        return SOUND_EFFECTS.computeIfAbsent(thePath, p -> loadNow(p, AssetLoader::readSound)).join();
+    }
+
+    /**
+     * Starts decoding an asset on a background thread.
+     *
+     * @param thePath the resource path of the asset.
+     * @param theReader the function that decodes the asset.
+     * @param <T> the type of the asset.
+     * @return the future of the asset.
+     */
+    private static <T> CompletableFuture<T> loadAsync(final String thePath,
+                                                      final Function<String, T> theReader) {
+        return CompletableFuture.supplyAsync(() -> theReader.apply(thePath));
+    }
+
+    /**
+     * Decodes an asset on the calling thread.
+     *
+     * @param thePath the resource path of the asset.
+     * @param theReader the function that decodes the asset.
+     * @param <T> the type of the asset.
+     * @return a future that is already complete.
+     */
+    private static <T> CompletableFuture<T> loadNow(final String thePath,
+                                                    final Function<String, T> theReader) {
+        try {
+            return CompletableFuture.completedFuture(theReader.apply(thePath));
+        } catch (final RuntimeException theError) {
+            return CompletableFuture.failedFuture(theError);
+        }
+    }
+
+    /**
+     * Decodes an image with ImageIO.
+     *
+     * @param thePath the resource path of the image.
+     * @return the decoded image.
+     */
+    private static BufferedImage readImage(final String thePath) {
+        try {
+            return ImageIO.read(Objects.requireNonNull(AssetLoader.class.getResource(thePath)));
+        } catch (final Exception theError) {
+            throw new RuntimeException("Problem with image loading of " + thePath + ": " + theError);
+        }
+    }
+
+    /**
+     * Decodes a TrueType font.
+     *
+     * @param thePath the resource path of the font.
+     * @return the decoded font.
+     */
+    private static Font readFont(final String thePath) {
+        try (InputStream in = Objects.requireNonNull(AssetLoader.class.getResourceAsStream(thePath))) {
+            return Font.createFont(Font.TRUETYPE_FONT, in);
+        } catch (final Exception theError) {
+            throw new RuntimeException("Problem with font loading of " + thePath + ": " + theError);
+        }
+    }
+
+    /**
+     * Decodes a sound effect into raw samples.
+     *
+     * @param thePath the resource path of the sound.
+     * @return the decoded sound.
+     */
+    private static Sound readSound(final String thePath) {
+        try (InputStream in = new BufferedInputStream(
+                Objects.requireNonNull(AssetLoader.class.getResourceAsStream(thePath)));
+             AudioInputStream audio = AudioSystem.getAudioInputStream(in)) {
+            return new Sound(audio.getFormat(), audio.readAllBytes());
+        } catch (final Exception theError) {
+            throw new RuntimeException("Problem with sound loading of " + thePath + ": " + theError);
+        }
+    }
+}
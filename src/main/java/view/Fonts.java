@@ -1,41 +1,71 @@
 package view;
 
 import java.awt.*;
-import java.io.IOException;
-import java.util.Objects;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * A utility class for managing and providing pixel-style fonts.
+ * A utility class for managing and providing pixel-style fonts. Each size is derived from the
+ * base font once and then shared, and the cache can be read from any thread.
  *
  * @author Mathew Miller
  * @version 1.0
  */
 public final class Fonts {
 
-    /** The base pixel font loaded from resources. */
-    private static Font myBasePixelFont;
+    /** The sizes the question panel draws its text at, whose glyphs are warmed up ahead of time. */
+    private static final int[] QUESTION_SIZES = {12, 14, 16};
+
+    /** The characters whose glyphs are warmed up, every printable ASCII character. */
+    private static final String WARM_UP_TEXT;
+
+    /** The pixel fonts derived so far, by size. */
+    private static final Map<Integer, Font> PIXEL_FONTS = new ConcurrentHashMap<>();
+
+    static {
+        final StringBuilder text = new StringBuilder();
+        for (char c = ' '; c <= '~'; c++) {
+            text.append(c);
+        }
+        WARM_UP_TEXT = text.toString();
+    }
 
     /** Private constructor to prevent instantiation. */
     private Fonts() { /* do nothing */ }
 
     /**
      * Retrieves a pixel-style font with the specified size.
-     * If the font is not already loaded, it is initialized from resources.
+     * If the font is not already loaded, this waits for the {@link AssetLoader} to decode it.
      *
      * @param theSize the desired font size
      * @return the pixel font at the specified size
      */
     public static Font getPixelFont(final int theSize) {
-        if (myBasePixelFont == null) {
-            try {
-                myBasePixelFont = Font.createFont(
-                        Font.TRUETYPE_FONT,
-                        Objects.requireNonNull(Fonts.class
-                                    .getResourceAsStream("/fonts/PressStart2P-vaV7.ttf")));
-            } catch (final IOException | FontFormatException theException) {
-                theException.printStackTrace();
-            }
+        return PIXEL_FONTS.computeIfAbsent(theSize,
+                size -> AssetLoader.getFont(AssetLoader.FONT_PATH).deriveFont(Font.PLAIN, size));
+    }
+
+    /**
+     * Measures and draws every printable character at the sizes of the question text, so the
+     * glyph metrics and images are already cached when a question is first shown. This can be
+     * run on any thread.
+     */
+    public static void warmUpGlyphs() {
+        final BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = image.createGraphics();
+        final Object desktopHints = Toolkit.getDefaultToolkit().getDesktopProperty("awt.font.desktophints");
+        if (desktopHints instanceof Map<?, ?> hints) {
+            // Swing draws text with the desktop hints, and glyphs are cached per set of hints
+            graphics.addRenderingHints(hints);
+        }
+        for (final int size : QUESTION_SIZES) {
+            final Font font = getPixelFont(size);
+            graphics.setFont(font);
+            graphics.getFontMetrics().stringWidth(WARM_UP_TEXT);
+            font.createGlyphVector(graphics.getFontRenderContext(), WARM_UP_TEXT).getVisualBounds();
+            graphics.drawString(WARM_UP_TEXT, 0, 0);
         }
-        return myBasePixelFont.deriveFont(Font.PLAIN, theSize);
+        graphics.dispose();
     }
 }
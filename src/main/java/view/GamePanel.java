@@ -1,24 +1,26 @@
 package view;
 
 import controller.GameListener;
-import model.Maze;
+import model.PlayableMaze;
 
 import javax.swing.*;
 import java.awt.*;
 
 /**
- * The main game panel for displaying and managing the maze visual panel.
+ * The main game panel for displaying and managing the maze canvas. The canvas sits in a scroll
+ * pane whose viewport is the camera onto the maze, so the panel keeps the same size no matter
+ * how many rooms the maze has.
  *
  * @author Mathew Miller
  * @version 1.0
  */
 public final class GamePanel extends JPanel {
 
-    /** Listener for handling game-related events. */
-    private final GameListener myGameListener;
+    /** The size of the view onto the maze, enough to show a 5 by 7 maze at the default zoom. */
+    private static final Dimension VIEWPORT_SIZE = new Dimension(560, 400);
 
-    /** Panel for rendering the maze visuals. */
-    private MazeVisualPanel myMazeVisualPanel;
+    /** The canvas the maze is painted on. */
+    private final MazeCanvas myMazeCanvas;
 
     /**
      * Constructs a game panel with the specified game listener.
@@ -26,9 +28,16 @@ public final class GamePanel extends JPanel {
      * @param theGameListener the listener for game events
      */
     public GamePanel(final GameListener theGameListener) {
-        myGameListener = theGameListener;
+        myMazeCanvas = new MazeCanvas(theGameListener);
         setBackground(Color.BLACK);
         setBorder(new RoundedBorder(40));
+        setLayout(new GridBagLayout());
+
+        final JScrollPane scrollPane = new JScrollPane(myMazeCanvas);
+        scrollPane.setPreferredSize(VIEWPORT_SIZE);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        scrollPane.getViewport().setBackground(Color.BLACK);
+        add(scrollPane);
         setVisible(true);
     }
 
@@ -36,14 +45,9 @@ public final class GamePanel extends JPanel {
      * Sets the maze to be displayed on the panel. Updates the visuals accordingly.
      *
      * @param theMaze the maze to be displayed
+     * @param theDirtyCells the indices of the rooms that changed, or null if all of them did
      */
-    public void setMaze(final Maze theMaze) {
-        if (myMazeVisualPanel != null) {
-            remove(myMazeVisualPanel);
-        }
-        myMazeVisualPanel = new MazeVisualPanel(myGameListener, theMaze);
-        add(myMazeVisualPanel);
-        revalidate();
-        repaint();
+    public void setMaze(final PlayableMaze theMaze, final int[] theDirtyCells) {
+        myMazeCanvas.setMaze(theMaze, theDirtyCells);
     }
 }
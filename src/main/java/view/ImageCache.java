@@ -0,0 +1,76 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the background images from the menuScreens folder. The decoded images are taken from the
+ * {@link AssetLoader} when the class is loaded, and each one keeps a copy scaled to the size it was last drawn at, so a
+ * repaint only copies finished pixels and the image is only scaled again when the panel changes
+ * size. Like the rest of the view, it is only used from the event dispatch thread.
+ *
+ * @author Jacob Klymenko
+ * @version 1.0
+ */
+public final class ImageCache {
+
+    /** The resource path of the main menu background. */
+    public static final String MAIN_MENU = "/menuScreens/mainMenu_96x54.png";
+
+    /** The resource path of the background shown after a win. */
+    public static final String WIN_SCREEN = "/menuScreens/winScreen96x54.png";
+
+    /** The resource path of the background shown after a loss. */
+    public static final String LOSS_SCREEN = "/menuScreens/lossScreen_96x54.png";
+
+    /** The decoded images, by resource path. */
+    private static final Map<String, BufferedImage> SOURCES = new HashMap<>();
+
+    /** The image of each resource path scaled to the size it was last asked for. */
+    private static final Map<String, BufferedImage> SCALED = new HashMap<>();
+
+    static {
+        try {
+            for (final String path : new String[]{MAIN_MENU, WIN_SCREEN, LOSS_SCREEN}) {
+                SOURCES.put(path, AssetLoader.getImage(path));
+            }
+        } catch (final Exception theError) {
+            throw new RuntimeException("Problem with image cache initialization: " + theError);
+        }
+    }
+
+    /** Private constructor to prevent instantiation. */
+    private ImageCache() { /* do nothing */ }
+
+    /**
+     * Gets a background scaled to the given size. The scaled image is kept until a different
+     * size is asked for.
+     *
+     * @param thePath the resource path of the image, one of the constants of this class.
+     * @param theWidth the width to scale to.
+     * @param theHeight the height to scale to.
+     * @return the scaled image.
+     */
+    public static BufferedImage getScaled(final String thePath, final int theWidth, final int theHeight) {
+        final BufferedImage scaled = SCALED.get(thePath);
+        if (scaled != null && scaled.getWidth() == theWidth && scaled.getHeight() == theHeight) {
+            return scaled;
+        }
+        final BufferedImage source = SOURCES.get(thePath);
+        if (source == null) {
+            throw new IllegalArgumentException("No cached image at " + thePath);
+        }
+        final BufferedImage result = new BufferedImage(Math.max(1, theWidth), Math.max(1, theHeight),
+                BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = result.createGraphics();
+        // the backgrounds are pixel art, so they are scaled without smoothing
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        graphics.drawImage(source, 0, 0, result.getWidth(), result.getHeight(), null);
+        graphics.dispose();
+        SCALED.put(thePath, result);
+        return result;
+    }
+}
@@ -1,10 +1,9 @@
 package view;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.Objects;
+import model.RoomEnums.RoomInfo;
 
 /**
  * Represents a key panel in the user interface that displays various room types and status
@@ -28,7 +27,10 @@ public final class KeyPanel extends JPanel {
     /** The number of columns per row in the panel layout. */
     private static final int COLUMNS_PER_ROW = 4;
 
-    /** The size (width and height) of the icons displayed in the key panel. */
+    /**
+     * The largest size (width and height) of the icons displayed in the key panel.
+     * Icons are scaled by the largest whole number that fits, so the pixel art stays sharp.
+     */
     private static final int ICON_SIZE = 40;
 
     /**
@@ -53,14 +55,10 @@ public final class KeyPanel extends JPanel {
     private BufferedImage[] loadKeyImages() {
         BufferedImage[] keyImages = new BufferedImage[4];
         try {
-            keyImages[0] = ImageIO.read(Objects.requireNonNull(getClass().getResource(
-                    "/roomFiles/fillRoom/lockFillRoom.png")));
-            keyImages[1] = ImageIO.read(Objects.requireNonNull(getClass().getResource(
-                    "/statusBarFiles/heart.png")));
-            keyImages[2] = ImageIO.read(Objects.requireNonNull(getClass().getResource(
-                    "/statusBarFiles/lightbulb.png")));
-            keyImages[3] = ImageIO.read(Objects.requireNonNull(getClass().getResource(
-                    "/roomFiles/fillRoom/mystFillRoom.png")));
+            keyImages[0] = SpriteAtlas.getLayer(RoomInfo.LOCKED, 1);
+            keyImages[1] = AssetLoader.getImage(AssetLoader.HEART_IMAGE);
+            keyImages[2] = AssetLoader.getImage(AssetLoader.LIGHTBULB_IMAGE);
+            keyImages[3] = SpriteAtlas.getLayer(RoomInfo.MYSTERY, 1);
         } catch (final Exception theError) {
             throw new RuntimeException("Problem with key image initialization: " + theError);
         }
@@ -74,16 +72,9 @@ public final class KeyPanel extends JPanel {
      */
     private BufferedImage[] loadDiscoveredRoomImages() {
         BufferedImage[] discRoomImages = new BufferedImage[3];
-        try {
-            discRoomImages[0] = ImageIO.read(Objects.requireNonNull(getClass().getResource(
-                    "/roomFiles/fillRoom/lndscFillRoom.png")));
-            discRoomImages[1] = ImageIO.read(Objects.requireNonNull(getClass().getResource(
-                    "/roomFiles/fillRoom/moonFillRoom.png")));
-            discRoomImages[2] = ImageIO.read(Objects.requireNonNull(getClass().getResource(
-                    "/roomFiles/fillRoom/giftsFillRoom.png")));
-        } catch (final Exception theError) {
-            throw new RuntimeException("Problem with discovered room image initialization: " + theError);
-        }
+        discRoomImages[0] = SpriteAtlas.getLayer(RoomInfo.LANDSCAPE, 1);
+        discRoomImages[1] = SpriteAtlas.getLayer(RoomInfo.MOON, 1);
+        discRoomImages[2] = SpriteAtlas.getLayer(RoomInfo.GIFTS, 1);
         return discRoomImages;
     }
 
@@ -194,8 +185,8 @@ public final class KeyPanel extends JPanel {
     private void addImageToPanel(final BufferedImage theImage,
                                  final GridBagConstraints theConstraints,
                                  final int theColumn) {
-        JLabel imageLabel = new JLabel(new ImageIcon(theImage.getScaledInstance(
-                                       ICON_SIZE, ICON_SIZE, Image.SCALE_DEFAULT)));
+        int zoom = Math.max(1, ICON_SIZE / Math.max(theImage.getWidth(), theImage.getHeight()));
+        JLabel imageLabel = new JLabel(new ImageIcon(SpriteAtlas.scale(theImage, zoom)));
         theConstraints.gridx = theColumn;
         add(imageLabel, theConstraints);
     }
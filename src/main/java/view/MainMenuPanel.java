@@ -4,7 +4,6 @@ import controller.GameListener;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.Objects;
 
 /**
  * Represents the main menu panel of the Christmas Trivia Maze game. Contains buttons for starting
@@ -157,13 +156,7 @@ public final class MainMenuPanel extends JPanel {
      */
     @Override
     protected void paintComponent(final Graphics theGraphics) {
-        ImageIcon myIcon = new ImageIcon(Objects.requireNonNull(getClass().getResource(
-                "/menuScreens/mainMenu_96x54.png")));
-        Image myImage = new ImageIcon(String.valueOf(myIcon)).getImage();
         super.paintComponent(theGraphics);
-
-        if (myImage != null) {
-            theGraphics.drawImage(myIcon.getImage(), 0, 0, getWidth(), getHeight(), this);
-        }
+        theGraphics.drawImage(ImageCache.getScaled(ImageCache.MAIN_MENU, getWidth(), getHeight()), 0, 0, null);
     }
 }
@@ -0,0 +1,429 @@
+package view;
+
+import controller.GameListener;
+import model.PlayableMaze;
+import model.Room;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+
+/**
+ * A single component that paints every room of the maze straight from the tile cache, instead
+ * of one button per room. Only the rooms inside the area being repainted are drawn, and a click
+ * is turned into a room by dividing by the tile size, so the cost of painting and clicking does
+ * not grow with the size of the maze. The arrow keys move a cursor between rooms and Enter or
+ * Space selects the room under it, the same as clicking it. Inside a scroll pane the canvas acts
+ * as the camera of the maze: dragging pans the view, Ctrl with the mouse wheel or the plus and
+ * minus keys zoom, and the view follows the selected room.
+ *
+ * @author Cai Spidel
+ * @author Mathew Miller
+ * @version 1.0
+ */
+public final class MazeCanvas extends JComponent implements Scrollable {
+
+    /** The zoom level rooms are drawn at when the canvas is created. */
+    private static final int DEFAULT_ZOOM = 5;
+
+    /** How far in pixels the mouse has to move while pressed before it pans instead of clicks. */
+    private static final int DRAG_THRESHOLD = 4;
+
+    /** The colour of the keyboard cursor. */
+    private static final Color CURSOR_COLOR = Color.WHITE;
+
+    /** Listener for game-related events. */
+    private final GameListener myGameListener;
+
+    /** The maze being drawn, or null before a game starts. */
+    private PlayableMaze myMaze;
+
+    /** The row of the keyboard cursor. */
+    private int myCursorRow;
+
+    /** The column of the keyboard cursor. */
+    private int myCursorCol;
+
+    /** The zoom level rooms are drawn at. */
+    private int myZoom = DEFAULT_ZOOM;
+
+    /** The index of the selected room the view last scrolled to, or -1 if there is none. */
+    private int myFollowedIndex = -1;
+
+    /** Where the mouse was pressed on screen, or null when no button is held. */
+    private Point myDragStart;
+
+    /** The view position of the viewport when the mouse was pressed. */
+    private Point myDragViewStart;
+
+    /** Whether the mouse moved far enough while pressed to pan rather than click. */
+    private boolean myDragged;
+
+    /**
+     * Constructs a canvas that reports clicked rooms to the listener.
+     *
+     * @param theGameListener the listener for room click events
+     */
+    public MazeCanvas(final GameListener theGameListener) {
+        myGameListener = theGameListener;
+        setFocusable(true);
+        setOpaque(true);
+        setBackground(Color.BLACK);
+        final MouseAdapter mouseHandler = new MouseAdapter() {
+            @Override
+            public void mousePressed(final MouseEvent theEvent) {
+                requestFocusInWindow();
+                final JViewport viewport = getViewport();
+                myDragStart = theEvent.getLocationOnScreen();
+                myDragViewStart = viewport == null ? null : viewport.getViewPosition();
+                myDragged = false;
+            }
+
+            @Override
+            public void mouseDragged(final MouseEvent theEvent) {
+                final Point point = theEvent.getLocationOnScreen();
+                if (myDragStart == null || myDragViewStart == null
+                        || !myDragged && point.distance(myDragStart) < DRAG_THRESHOLD) {
+                    return;
+                }
+                myDragged = true;
+                panTo(myDragViewStart.x - (point.x - myDragStart.x),
+                        myDragViewStart.y - (point.y - myDragStart.y));
+            }
+
+            @Override
+            public void mouseReleased(final MouseEvent theEvent) {
+                myDragStart = null;
+                if (myDragged || myMaze == null || theEvent.getX() < 0 || theEvent.getY() < 0) {
+                    return;
+                }
+                final int row = theEvent.getY() / getTilePixels();
+                final int col = theEvent.getX() / getTilePixels();
+                if (row < myMaze.getRows() && col < myMaze.getCols()) {
+                    moveCursor(row, col);
+                    selectRoom(row, col);
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(final MouseWheelEvent theEvent) {
+                if (theEvent.isControlDown()) {
+                    setZoom(myZoom - theEvent.getWheelRotation());
+                } else if (getParent() != null) {
+                    // without Ctrl the wheel scrolls the enclosing scroll pane as usual
+                    getParent().dispatchEvent(SwingUtilities.convertMouseEvent(
+                            MazeCanvas.this, theEvent, getParent()));
+                }
+            }
+        };
+        addMouseListener(mouseHandler);
+        addMouseMotionListener(mouseHandler);
+        addMouseWheelListener(mouseHandler);
+        setupKeyBindings();
+    }
+
+    /**
+     * Sets the maze to be drawn. A new maze is repainted in full, while for the maze already
+     * shown only the rooms listed as changed are repainted. Whenever another room has been
+     * selected the view scrolls to keep it in sight.
+     *
+     * @param theMaze the maze to be drawn
+     * @param theDirtyCells the indices of the rooms that changed, or null if all of them did
+     */
+    public void setMaze(final PlayableMaze theMaze, final int[] theDirtyCells) {
+        if (theMaze == myMaze && theDirtyCells != null) {
+            for (final int cell : theDirtyCells) {
+                repaintRoom(cell / myMaze.getCols(), cell % myMaze.getCols());
+            }
+        } else {
+            final boolean resized = myMaze == null || myMaze.getRows() != theMaze.getRows()
+                    || myMaze.getCols() != theMaze.getCols();
+            myMaze = theMaze;
+            myFollowedIndex = -1;
+            if (resized) {
+                // the cursor starts on the selected room, which need not be in the corner
+                final int selected = Math.max(0, myMaze.getSelectedRoomIndex());
+                myCursorRow = selected / myMaze.getCols();
+                myCursorCol = selected % myMaze.getCols();
+                revalidate();
+            }
+            repaint();
+        }
+        followSelectedRoom();
+    }
+
+    /**
+     * Sets the zoom level rooms are drawn at, keeping the room under the cursor in sight.
+     *
+     * @param theZoom the zoom level, clamped to the levels of the sprite atlas
+     */
+    public void setZoom(final int theZoom) {
+        final int zoom = Math.clamp(theZoom, 1, SpriteAtlas.MAX_ZOOM);
+        if (zoom == myZoom) {
+            return;
+        }
+        myZoom = zoom;
+        revalidate();
+        repaint();
+        // the viewport only learns the new size after the layout, so scroll once that has run
+        SwingUtilities.invokeLater(() -> scrollRectToVisible(getRoomBounds(myCursorRow, myCursorCol)));
+    }
+
+    /**
+     * Gets the zoom level rooms are drawn at.
+     *
+     * @return the zoom level
+     */
+    public int getZoom() {
+        return myZoom;
+    }
+
+    /**
+     * Repaints a single room.
+     *
+     * @param theRow the row of the room
+     * @param theCol the column of the room
+     */
+    public void repaintRoom(final int theRow, final int theCol) {
+        final int tilePixels = getTilePixels();
+        repaint(theCol * tilePixels, theRow * tilePixels, tilePixels, tilePixels);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (myMaze == null) {
+            return new Dimension(0, 0);
+        }
+        return new Dimension(myMaze.getCols() * getTilePixels(), myMaze.getRows() * getTilePixels());
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(final Rectangle theVisibleRect, final int theOrientation,
+                                          final int theDirection) {
+        return getTilePixels();
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(final Rectangle theVisibleRect, final int theOrientation,
+                                           final int theDirection) {
+        final int extent = theOrientation == SwingConstants.VERTICAL
+                ? theVisibleRect.height : theVisibleRect.width;
+        return Math.max(getTilePixels(), extent - getTilePixels());
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    @Override
+    protected void paintComponent(final Graphics theGraphics) {
+        final Rectangle clip = theGraphics.getClipBounds() != null
+                ? theGraphics.getClipBounds() : new Rectangle(getSize());
+        theGraphics.setColor(getBackground());
+        theGraphics.fillRect(clip.x, clip.y, clip.width, clip.height);
+        if (myMaze == null) {
+            return;
+        }
+
+        // only the rooms that overlap the clip are drawn, and inside a viewport the clip is never
+        // larger than the visible rectangle, so the size of the maze does not matter
+        final int tilePixels = getTilePixels();
+        final int firstRow = Math.max(0, clip.y / tilePixels);
+        final int firstCol = Math.max(0, clip.x / tilePixels);
+        final int lastRow = Math.min(myMaze.getRows() - 1, (clip.y + clip.height - 1) / tilePixels);
+        final int lastCol = Math.min(myMaze.getCols() - 1, (clip.x + clip.width - 1) / tilePixels);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                final Image tile = RoomImageMerger.MergeImage(myMaze, myMaze.getRoomIndex(row, col), myZoom);
+                theGraphics.drawImage(tile, col * tilePixels, row * tilePixels, null);
+            }
+        }
+
+        if (isFocusOwner()) {
+            theGraphics.setColor(CURSOR_COLOR);
+            theGraphics.drawRect(myCursorCol * tilePixels, myCursorRow * tilePixels,
+                    tilePixels - 1, tilePixels - 1);
+        }
+    }
+
+    /**
+     * Binds the arrow keys to move the cursor, Enter and Space to select the room under it, and
+     * plus and minus to zoom in and out.
+     */
+    private void setupKeyBindings() {
+        final InputMap inputs = getInputMap(WHEN_FOCUSED);
+        final ActionMap actions = getActionMap();
+        bindMove(inputs, actions, "UP", -1, 0);
+        bindMove(inputs, actions, "DOWN", 1, 0);
+        bindMove(inputs, actions, "LEFT", 0, -1);
+        bindMove(inputs, actions, "RIGHT", 0, 1);
+
+        bindZoom(inputs, actions, "EQUALS", 1);
+        bindZoom(inputs, actions, "shift EQUALS", 1);
+        bindZoom(inputs, actions, "ADD", 1);
+        bindZoom(inputs, actions, "MINUS", -1);
+        bindZoom(inputs, actions, "SUBTRACT", -1);
+
+        inputs.put(KeyStroke.getKeyStroke("ENTER"), "select");
+        inputs.put(KeyStroke.getKeyStroke("SPACE"), "select");
+        actions.put("select", new AbstractAction() {
+            @Override
+            public void actionPerformed(final ActionEvent theEvent) {
+                if (myMaze != null) {
+                    selectRoom(myCursorRow, myCursorCol);
+                }
+            }
+        });
+
+        // the cursor is only drawn while the canvas has focus
+        addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusGained(final FocusEvent theEvent) {
+                repaintRoom(myCursorRow, myCursorCol);
+            }
+
+            @Override
+            public void focusLost(final FocusEvent theEvent) {
+                repaintRoom(myCursorRow, myCursorCol);
+            }
+        });
+    }
+
+    /**
+     * Binds a key to move the cursor by one room.
+     *
+     * @param theInputs the input map of the canvas.
+     * @param theActions the action map of the canvas.
+     * @param theKey the name of the key.
+     * @param theRowStep the change in row.
+     * @param theColStep the change in column.
+     */
+    private void bindMove(final InputMap theInputs, final ActionMap theActions, final String theKey,
+                          final int theRowStep, final int theColStep) {
+        theInputs.put(KeyStroke.getKeyStroke(theKey), "move " + theKey);
+        theActions.put("move " + theKey, new AbstractAction() {
+            @Override
+            public void actionPerformed(final ActionEvent theEvent) {
+                if (myMaze != null) {
+                    moveCursor(Math.clamp(myCursorRow + theRowStep, 0, myMaze.getRows() - 1),
+                            Math.clamp(myCursorCol + theColStep, 0, myMaze.getCols() - 1));
+                }
+            }
+        });
+    }
+
+    /**
+     * Binds a key to zoom in or out by one level.
+     *
+     * @param theInputs the input map of the canvas.
+     * @param theActions the action map of the canvas.
+     * @param theKey the name of the key.
+     * @param theStep the change in zoom level.
+     */
+    private void bindZoom(final InputMap theInputs, final ActionMap theActions, final String theKey,
+                          final int theStep) {
+        theInputs.put(KeyStroke.getKeyStroke(theKey), "zoom " + theKey);
+        theActions.put("zoom " + theKey, new AbstractAction() {
+            @Override
+            public void actionPerformed(final ActionEvent theEvent) {
+                setZoom(myZoom + theStep);
+            }
+        });
+    }
+
+    /**
+     * Scrolls to the selected room of the maze if it is not the one last scrolled to.
+     */
+    private void followSelectedRoom() {
+        final int selected = myMaze.getSelectedRoomIndex();
+        if (selected >= 0 && selected != myFollowedIndex) {
+            myFollowedIndex = selected;
+            scrollRectToVisible(getRoomBounds(selected / myMaze.getCols(), selected % myMaze.getCols()));
+        }
+    }
+
+    /**
+     * Moves the view of the enclosing viewport, keeping it inside the canvas.
+     *
+     * @param theX the x position of the view.
+     * @param theY the y position of the view.
+     */
+    private void panTo(final int theX, final int theY) {
+        final JViewport viewport = getViewport();
+        final Dimension extent = viewport.getExtentSize();
+        viewport.setViewPosition(new Point(
+                Math.clamp(theX, 0, Math.max(0, getWidth() - extent.width)),
+                Math.clamp(theY, 0, Math.max(0, getHeight() - extent.height))));
+    }
+
+    /**
+     * Gets the viewport the canvas is shown in.
+     *
+     * @return the viewport, or null if the canvas is not inside one.
+     */
+    private JViewport getViewport() {
+        return getParent() instanceof JViewport viewport ? viewport : null;
+    }
+
+    /**
+     * Gets the width and height of a room on screen.
+     *
+     * @return the size of a room in pixels.
+     */
+    private int getTilePixels() {
+        return SpriteAtlas.TILE_SIZE * myZoom;
+    }
+
+    /**
+     * Gets the area of the canvas a room is drawn in.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the bounds of the room.
+     */
+    private Rectangle getRoomBounds(final int theRow, final int theCol) {
+        final int tilePixels = getTilePixels();
+        return new Rectangle(theCol * tilePixels, theRow * tilePixels, tilePixels, tilePixels);
+    }
+
+    /**
+     * Moves the keyboard cursor to a room, repainting the rooms it left and entered.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     */
+    private void moveCursor(final int theRow, final int theCol) {
+        repaintRoom(myCursorRow, myCursorCol);
+        myCursorRow = theRow;
+        myCursorCol = theCol;
+        repaintRoom(myCursorRow, myCursorCol);
+        scrollRectToVisible(getRoomBounds(theRow, theCol));
+    }
+
+    /**
+     * Reports a room as clicked to the listener.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     */
+    private void selectRoom(final int theRow, final int theCol) {
+        final Room room = myMaze.getRoom(theRow, theCol);
+        myGameListener.onRoomClicked(room);
+    }
+}
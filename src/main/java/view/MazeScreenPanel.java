@@ -2,6 +2,7 @@ package view;
 
 import controller.GameListener;
 import model.Maze;
+import model.PlayableMaze;
 import model.Player;
 import model.Room;
 
@@ -12,7 +13,7 @@ import static java.awt.GridBagConstraints.*;
 
 /**
  * A panel that represents the main screen of the maze game. It includes components for the game
- * display, questions, status bar, and key panel.
+ * display, questions, status bar, key panel and minimap.
  *
  * @author Mathew Miller
  * @author Jacob Klymenko (Javadoc)
@@ -29,6 +30,9 @@ public final class MazeScreenPanel extends JPanel {
     /** Panel for showing the player's status and other game details. */
     private final StatusBarPanel myStatusBarPanel;
 
+    /** Panel showing an overview of the whole maze. */
+    private final MinimapPanel myMinimapPanel;
+
     /**
      * Constructs a maze screen panel with the specified game listener.
      *
@@ -49,6 +53,7 @@ public final class MazeScreenPanel extends JPanel {
         myStatusBarPanel = new StatusBarPanel(theGameListener);
         myGamePanel = new GamePanel(theGameListener);
         KeyPanel keyPanel = new KeyPanel();
+        myMinimapPanel = new MinimapPanel();
 
         c.gridx = 1;
         c.gridy = 0;
@@ -66,7 +71,12 @@ public final class MazeScreenPanel extends JPanel {
         c2.weightx = 1.0;
         c2.weighty = 1.0;
         c2.fill = GridBagConstraints.BOTH;
-        add(myStatusBarPanel, c2);
+        // the minimap sits between the key and the status bar, where the right column has room
+        JPanel statusRow = new JPanel(new BorderLayout(5, 0));
+        statusRow.setBackground(Color.BLACK);
+        statusRow.add(myMinimapPanel, BorderLayout.WEST);
+        statusRow.add(myStatusBarPanel, BorderLayout.CENTER);
+        add(statusRow, c2);
 
         c3.gridx = 0;
         c3.gridy = 1;
@@ -92,7 +102,7 @@ public final class MazeScreenPanel extends JPanel {
      *
      * @param theMaze the maze to be displayed
      */
-    public void setMaze(final Maze theMaze) {
+    public void setMaze(final PlayableMaze theMaze) {
         Room selectedRoom = theMaze.getCurrentlySelectedRoom();
         if (selectedRoom != null) {
             if (selectedRoom.isVisible()) {
@@ -104,7 +114,13 @@ public final class MazeScreenPanel extends JPanel {
             myQuestionPanel.setQuestion(null);
         }
 
-        myGamePanel.setMaze(theMaze);
+        // the changed rooms can only be taken once, so both views share them
+        int[] dirtyCells = theMaze.takeDirtyCells();
+        myGamePanel.setMaze(theMaze, dirtyCells);
+        // an endless maze is too large to draw whole, so it has no minimap
+        final Maze boundedMaze = theMaze instanceof Maze maze ? maze : null;
+        myMinimapPanel.setMaze(boundedMaze, dirtyCells);
+        myMinimapPanel.setVisible(boundedMaze != null);
     }
 
     /**
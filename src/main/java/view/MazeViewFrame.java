@@ -2,16 +2,12 @@ package view;
 
 import controller.GameListener;
 import controller.MusicController;
-import model.Maze;
+import model.PlayableMaze;
 import model.Player;
 
 import javax.sound.sampled.*;
 import javax.swing.*;
 import java.awt.*;
-import java.io.BufferedInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Objects;
 
 /**
  * The MazeViewFrame class represents the main game frame for the "Christmas Trivia Maze" game.
@@ -105,7 +101,7 @@ public final class MazeViewFrame extends JFrame {
      *
      * @param theMaze the maze object to be displayed.
      */
-    public void setMaze(final Maze theMaze) {
+    public void setMaze(final PlayableMaze theMaze) {
         myMenuBar.updateMenuBarUsability(true);
         myMainMenuPanel.setVisible(false);
         myResultScreenPanel.setVisible(false);
@@ -125,6 +121,16 @@ public final class MazeViewFrame extends JFrame {
         myPreparationPanel.setVisible(true);
     }
 
+    /**
+     * Shows or clears the waiting state of the preparation screen, used while a game waits for
+     * the questions to finish loading and its maze to be built.
+     *
+     * @param theLoading whether the game is still being prepared.
+     */
+    public void setQuestionsLoading(final boolean theLoading) {
+        myPreparationPanel.setLoading(theLoading);
+    }
+
     /**
      * Sets the main menu screen visible and hides other panels.
      */
@@ -171,35 +177,29 @@ public final class MazeViewFrame extends JFrame {
     }
 
     /**
-     * Plays a sound effect corresponding to the outcome of an action.
+     * Plays a sound effect corresponding to the outcome of an action. The sounds are decoded by
+     * the {@link AssetLoader}, so only the clip is opened here.
      *
      * @param theResult true to play the "correct answer" sound effect; false to play the
      *                  "wrong answer" sound effect.
-     * @throws UnsupportedAudioFileException if the audio file format is unsupported.
-     * @throws IOException if an I/O error occurs during audio file processing.
      * @throws LineUnavailableException if the audio line cannot be opened for playback.
      */
-    public void playSoundEffect(final boolean theResult)
-            throws UnsupportedAudioFileException, IOException, LineUnavailableException {
-        InputStream inputStream = Objects.requireNonNull(getClass()
-                .getResourceAsStream(theResult ? "/soundEffects/RightAnswer.wav" : "/soundEffects/WrongAnswer.wav"));
-
-        try (BufferedInputStream bufferedStream = new BufferedInputStream(inputStream)) {
-            AudioInputStream audio = AudioSystem.getAudioInputStream(bufferedStream);
-            Clip clip = AudioSystem.getClip();
-            clip.open(audio);
-
-            if (clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                FloatControl volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-                volumeControl.setValue(myMusicController.getDefaultVolume());
-
-                float currentVolume = myMusicController.getCurrentVolume();
-                // right answer sound is sharper than wrong answer
-                volumeControl.setValue(currentVolume + (theResult ? 2 : 7));
-            } else {
-                System.out.println("Sound Effects: Clip does NOT support MASTER_GAIN");
-            }
-            clip.start();
+    public void playSoundEffect(final boolean theResult) throws LineUnavailableException {
+        AssetLoader.Sound sound = AssetLoader.getSound(
+                theResult ? AssetLoader.RIGHT_ANSWER_SOUND : AssetLoader.WRONG_ANSWER_SOUND);
+        Clip clip = AudioSystem.getClip();
+        clip.open(sound.getFormat(), sound.getData(), 0, sound.getData().length);
+
+        if (clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+            FloatControl volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
+            volumeControl.setValue(myMusicController.getDefaultVolume());
+
+            float currentVolume = myMusicController.getCurrentVolume();
+            // right answer sound is sharper than wrong answer
+            volumeControl.setValue(currentVolume + (theResult ? 2 : 7));
+        } else {
+            System.out.println("Sound Effects: Clip does NOT support MASTER_GAIN");
         }
+        clip.start();
     }
 }
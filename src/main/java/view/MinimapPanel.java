@@ -0,0 +1,261 @@
+package view;
+
+import model.Maze;
+import model.RoomEnums.Visibility;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+
+import static model.RoomEnums.DOOR_DIRECTIONS;
+
+/**
+ * Shows an overview of the whole maze. Instead of drawing room tiles, the maze is kept as a
+ * chain of mip levels: level 0 has one ARGB pixel per room, coloured by its visibility and how
+ * many passages it has, and each further level halves the width and height by averaging the
+ * 2 by 2 block of pixels below it, so a pixel of level k summarises a 2^k by 2^k block of rooms.
+ * The panel draws the finest level that fits, and a changed room only updates one pixel of each
+ * level.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class MinimapPanel extends JPanel {
+
+    /** The width and height of the area the map is drawn in. */
+    private static final int MAP_SIZE = 60;
+
+    /** The colour of rooms that have not been discovered. */
+    private static final int MYSTERY_COLOR = 0xFF1E1E2A;
+
+    /** The colour of locked rooms. */
+    private static final int LOCKED_COLOR = 0xFFA02828;
+
+    /** The colour of endpoints once they have been found. */
+    private static final int ENDPOINT_COLOR = 0xFFE8B830;
+
+    /** The colour of visible rooms without passages, brightened by each passage they have. */
+    private static final int VISIBLE_COLOR = 0xFF2E5C38;
+
+    /** How much each passage of a visible room adds to its red, green and blue. */
+    private static final int PASSAGE_STEP = 0x20;
+
+    /** The colour of the marker over the selected room. */
+    private static final Color SELECTED_COLOR = Color.WHITE;
+
+    /** The colour model of the level images, matching TYPE_INT_ARGB. */
+    private static final DirectColorModel ARGB_MODEL =
+            new DirectColorModel(32, 0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000);
+
+    /** The maze being shown, or null before a game starts. */
+    private Maze myMaze;
+
+    /** The pixels of each mip level, row-major, level 0 having one pixel per room. */
+    private int[][] myLevels;
+
+    /** The width in pixels of each mip level. */
+    private int[] myLevelWidths;
+
+    /** The height in pixels of each mip level. */
+    private int[] myLevelHeights;
+
+    /** The images drawn for each mip level, sharing the pixel arrays so they never need copying. */
+    private BufferedImage[] myLevelImages;
+
+    /**
+     * Constructs an empty minimap.
+     */
+    public MinimapPanel() {
+        setBackground(Color.BLACK);
+        setBorder(new RoundedBorder(20));
+        setVisible(true);
+    }
+
+    /**
+     * Sets the maze to be shown. A new maze, or a null list of changed rooms, rebuilds every
+     * level, otherwise only the listed rooms are updated.
+     *
+     * @param theMaze the maze to be shown, or null to show none
+     * @param theDirtyCells the indices of the rooms that changed, or null if all of them did
+     */
+    public void setMaze(final Maze theMaze, final int[] theDirtyCells) {
+        if (theMaze == null) {
+            myMaze = null;
+        } else if (theMaze != myMaze || theDirtyCells == null) {
+            myMaze = theMaze;
+            buildLevels();
+        } else {
+            for (final int cell : theDirtyCells) {
+                updateRoom(cell);
+            }
+        }
+        repaint();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        final Insets insets = getInsets();
+        return new Dimension(MAP_SIZE + insets.left + insets.right, MAP_SIZE + insets.top + insets.bottom);
+    }
+
+    @Override
+    protected void paintComponent(final Graphics theGraphics) {
+        super.paintComponent(theGraphics);
+        if (myMaze == null) {
+            return;
+        }
+        final Insets insets = getInsets();
+        final int areaWidth = getWidth() - insets.left - insets.right;
+        final int areaHeight = getHeight() - insets.top - insets.bottom;
+        if (areaWidth <= 0 || areaHeight <= 0) {
+            return;
+        }
+
+        // the finest level that fits, so a pixel of the level is never smaller than a screen pixel
+        int level = 0;
+        while (level < myLevels.length - 1
+                && (myLevelWidths[level] > areaWidth || myLevelHeights[level] > areaHeight)) {
+            level++;
+        }
+        final double scale = Math.min((double) areaWidth / myMaze.getCols(),
+                (double) areaHeight / myMaze.getRows());
+        final int drawWidth = Math.max(1, (int) (myMaze.getCols() * scale));
+        final int drawHeight = Math.max(1, (int) (myMaze.getRows() * scale));
+        final int left = insets.left + (areaWidth - drawWidth) / 2;
+        final int top = insets.top + (areaHeight - drawHeight) / 2;
+        theGraphics.drawImage(myLevelImages[level], left, top, drawWidth, drawHeight, null);
+
+        final int selected = myMaze.getSelectedRoomIndex();
+        if (selected >= 0) {
+            final int size = Math.max(3, (int) scale);
+            final int x = left + (int) ((selected % myMaze.getCols() + 0.5) * scale) - size / 2;
+            final int y = top + (int) ((selected / myMaze.getCols() + 0.5) * scale) - size / 2;
+            theGraphics.setColor(SELECTED_COLOR);
+            theGraphics.drawRect(x, y, size - 1, size - 1);
+        }
+    }
+
+    /**
+     * Allocates the mip levels for the maze and fills every pixel of them.
+     */
+    private void buildLevels() {
+        int levelCount = 1;
+        for (int width = myMaze.getCols(), height = myMaze.getRows(); width > 1 || height > 1;
+             width = (width + 1) / 2, height = (height + 1) / 2) {
+            levelCount++;
+        }
+        myLevels = new int[levelCount][];
+        myLevelWidths = new int[levelCount];
+        myLevelHeights = new int[levelCount];
+        myLevelImages = new BufferedImage[levelCount];
+        for (int level = 0; level < levelCount; level++) {
+            myLevelWidths[level] = level == 0 ? myMaze.getCols() : (myLevelWidths[level - 1] + 1) / 2;
+            myLevelHeights[level] = level == 0 ? myMaze.getRows() : (myLevelHeights[level - 1] + 1) / 2;
+            myLevels[level] = new int[myLevelWidths[level] * myLevelHeights[level]];
+            myLevelImages[level] = wrapLevel(level);
+        }
+
+        final int[] rooms = myLevels[0];
+        for (int cell = 0; cell < rooms.length; cell++) {
+            rooms[cell] = roomColor(cell);
+        }
+        for (int level = 1; level < levelCount; level++) {
+            for (int y = 0; y < myLevelHeights[level]; y++) {
+                for (int x = 0; x < myLevelWidths[level]; x++) {
+                    myLevels[level][y * myLevelWidths[level] + x] = averageBlock(level - 1, x * 2, y * 2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recolours the pixel of a room and the one pixel above it on each coarser level.
+     *
+     * @param theCell the index of the room.
+     */
+    private void updateRoom(final int theCell) {
+        myLevels[0][theCell] = roomColor(theCell);
+        int x = theCell % myMaze.getCols();
+        int y = theCell / myMaze.getCols();
+        for (int level = 1; level < myLevels.length; level++) {
+            x >>= 1;
+            y >>= 1;
+            myLevels[level][y * myLevelWidths[level] + x] = averageBlock(level - 1, x * 2, y * 2);
+        }
+    }
+
+    /**
+     * Averages each channel of the 2 by 2 block of a level starting at the given pixel. Blocks on
+     * the right and bottom edge may have fewer than four pixels.
+     *
+     * @param theLevel the level the block is on.
+     * @param theX the column of the top left pixel of the block.
+     * @param theY the row of the top left pixel of the block.
+     * @return the averaged ARGB colour.
+     */
+    private int averageBlock(final int theLevel, final int theX, final int theY) {
+        final int[] pixels = myLevels[theLevel];
+        final int width = myLevelWidths[theLevel];
+        final int lastX = Math.min(theX + 1, width - 1);
+        final int lastY = Math.min(theY + 1, myLevelHeights[theLevel] - 1);
+        int red = 0;
+        int green = 0;
+        int blue = 0;
+        int count = 0;
+        for (int y = theY; y <= lastY; y++) {
+            for (int x = theX; x <= lastX; x++) {
+                final int pixel = pixels[y * width + x];
+                red += (pixel >> 16) & 0xFF;
+                green += (pixel >> 8) & 0xFF;
+                blue += pixel & 0xFF;
+                count++;
+            }
+        }
+        return 0xFF000000 | (red / count) << 16 | (green / count) << 8 | blue / count;
+    }
+
+    /**
+     * Gets the colour of a single room. The passages of a room are only shown once it is visible.
+     *
+     * @param theCell the index of the room.
+     * @return the ARGB colour of the room.
+     */
+    private int roomColor(final int theCell) {
+        final Visibility visibility = myMaze.getVisibility(theCell);
+        if (visibility == Visibility.MYSTERY) {
+            return MYSTERY_COLOR;
+        }
+        if (myMaze.isEndpoint(theCell)) {
+            return ENDPOINT_COLOR;
+        }
+        if (visibility == Visibility.LOCKED) {
+            return LOCKED_COLOR;
+        }
+        int passages = 0;
+        for (int direction = 0; direction < DOOR_DIRECTIONS.length; direction++) {
+            if (myMaze.hasPassage(theCell, direction)) {
+                passages++;
+            }
+        }
+        final int step = passages * PASSAGE_STEP;
+        return VISIBLE_COLOR + (step << 16 | step << 8 | step);
+    }
+
+    /**
+     * Creates an image that draws straight from the pixel array of a level.
+     *
+     * @param theLevel the level to wrap.
+     * @return an image backed by the pixels of the level.
+     */
+    private BufferedImage wrapLevel(final int theLevel) {
+        final int width = myLevelWidths[theLevel];
+        final int[] pixels = myLevels[theLevel];
+        final WritableRaster raster = Raster.createPackedRaster(new DataBufferInt(pixels, pixels.length),
+                width, myLevelHeights[theLevel], width, ARGB_MODEL.getMasks(), null);
+        return new BufferedImage(ARGB_MODEL, raster, false, null);
+    }
+}
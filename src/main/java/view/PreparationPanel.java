@@ -1,15 +1,18 @@
 package view;
 
 import controller.GameListener;
+import model.QuestionBank;
+import model.QuestionEnums.QuestionType;
 
 import javax.swing.*;
 import java.awt.*;
 import java.util.Enumeration;
+import java.util.SplittableRandom;
 
 /**
  * The PreparationPanel class is a custom JPanel that provides the user interface for preparing to
- * start a game. It allows the user to input their name, choose a difficulty level, and either
- * proceed with the game or return to the main menu.
+ * start a game. It allows the user to input their name, choose a maze size and a difficulty level,
+ * and either proceed with the game or return to the main menu.
  *
  * @author Jacob Klymenko
  * @version 1.0
@@ -24,11 +27,51 @@ public final class PreparationPanel extends JPanel {
             "Hahaha... Are you sure about this?"
     };
 
+    /** The prompt shown next to the optional seed field. */
+    private final static String SEED_PROMPT = "Maze seed (optional):";
+
+    /** The text of the "Yes" button. */
+    private final static String YES_TEXT = "Yes, I'm ready!";
+
+    /** The text of the "Yes" button while the game waits for its questions and maze. */
+    private final static String LOADING_TEXT = "Wrapping the questions...";
+
     /** Array containing difficulty level names that are presented as options to the user. */
     private final static String[] DIFFICULTY_NAMES = new String[] {
             " Frosty (Easy)", " Blizzard (Medium)", " Naughty List (Hard)"
     };
 
+    /** The prompt shown next to the maze size choice. */
+    private final static String SIZE_PROMPT = "Maze size:";
+
+    /** The names of the maze sizes that are presented as options to the user. */
+    private final static String[] MAZE_SIZE_NAMES = new String[] {
+            "Cottage (5 x 7)", "Workshop (20 x 30)", "Village (100 x 100)", "North Pole (2000 x 2000)",
+            "Endless Tundra (no edge)"
+    };
+
+    /** The rows and columns of each bounded maze size, in the order of MAZE_SIZE_NAMES. */
+    private final static int[][] MAZE_SIZES = {{5, 7}, {20, 30}, {100, 100}, {2000, 2000}};
+
+    /** The index in MAZE_SIZE_NAMES of the endless maze, which has no rows and columns. */
+    private final static int ENDLESS_SIZE_INDEX = MAZE_SIZES.length;
+
+    /** The prompt shown next to the question choice. */
+    private final static String QUESTION_PROMPT = "Questions:";
+
+    /** The names of the kinds of question that are presented as options to the user. */
+    private final static String[] QUESTION_CHOICE_NAMES = new String[] {
+            "Any kind", "Only multiple choice", "Only true or false", "Only fill in the blank"
+    };
+
+    /** The filter of each kind of question, in the order of QUESTION_CHOICE_NAMES. */
+    private final static QuestionBank.Filter[] QUESTION_FILTERS = {
+            QuestionBank.Filter.ANY,
+            QuestionBank.Filter.ANY.withTypes(QuestionType.MULTIPLE_CHOICE),
+            QuestionBank.Filter.ANY.withTypes(QuestionType.BOOLEAN),
+            QuestionBank.Filter.ANY.withTypes(QuestionType.TEXT_INPUT)
+    };
+
     /** The GameListener used to communicate events back to the game controller. */
     private final GameListener myGameListener;
 
@@ -38,6 +81,12 @@ public final class PreparationPanel extends JPanel {
     /** A ButtonGroup to manage the difficulty level radio buttons. */
     private ButtonGroup myDifficultyGroup;
 
+    /** The drop-down list used to choose the size of the maze. */
+    private JComboBox<String> myMazeSizeBox;
+
+    /** The drop-down list used to choose the kind of questions. */
+    private JComboBox<String> myQuestionBox;
+
     /** The "Yes" button used for confirming readiness to start the game. */
     private JButton myYesButton;
 
@@ -68,6 +117,18 @@ public final class PreparationPanel extends JPanel {
         add(myInnerPanel, outerConstraints);
     }
 
+    /**
+     * Shows whether a game is waiting for the questions to load and its maze to be built. While
+     * it waits, the "Yes" button says so and cannot be pressed again.
+     *
+     * @param theLoading whether the game is still being prepared.
+     */
+    public void setLoading(final boolean theLoading) {
+        myYesButton.setText(theLoading ? LOADING_TEXT : YES_TEXT);
+        myYesButton.setEnabled(!theLoading);
+        setCursor(theLoading ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : null);
+    }
+
     /**
      * Creates and returns the inner panel for holding components.
      *
@@ -78,7 +139,7 @@ public final class PreparationPanel extends JPanel {
         panel.setBackground(Color.BLACK);
         panel.setBorder(new RoundedBorder(40));
         panel.setLayout(new GridBagLayout());
-        panel.setPreferredSize(new Dimension(600, 400));
+        panel.setPreferredSize(new Dimension(600, 500));
         return panel;
     }
 
@@ -93,9 +154,12 @@ public final class PreparationPanel extends JPanel {
 
         addLoreLabels(constraints);
         JTextField nameField = addNameField(constraints);
+        JTextField seedField = addSeedField(constraints);
+        addMazeSizeBox(constraints);
+        addQuestionBox(constraints);
         addDifficultyButtons(constraints);
         addConfirmationButtons(constraints);
-        setupActionListeners(nameField);
+        setupActionListeners(nameField, seedField);
     }
 
     /**
@@ -135,6 +199,74 @@ public final class PreparationPanel extends JPanel {
         return nameField;
     }
 
+    /**
+     * Adds the optional seed input field to the inner panel.
+     *
+     * @param theConstraints The GridBagConstraints used for positioning.
+     * @return The created JTextField for the seed.
+     */
+    private JTextField addSeedField(final GridBagConstraints theConstraints) {
+        JLabel seedPrompt = new JLabel(SEED_PROMPT);
+        seedPrompt.setForeground(Color.WHITE);
+        seedPrompt.setFont(Fonts.getPixelFont(10));
+
+        JTextField seedField = formatNameField();
+
+        JPanel seedPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 25, 0));
+        seedPanel.setBackground(Color.BLACK);
+        seedPanel.add(seedPrompt);
+        seedPanel.add(seedField);
+
+        myInnerPanel.add(seedPanel, theConstraints);
+        theConstraints.gridy++;
+
+        return seedField;
+    }
+
+    /**
+     * Adds the maze size choice to the inner panel.
+     *
+     * @param theConstraints The GridBagConstraints used for positioning.
+     */
+    private void addMazeSizeBox(final GridBagConstraints theConstraints) {
+        JLabel sizePrompt = new JLabel(SIZE_PROMPT);
+        sizePrompt.setForeground(Color.WHITE);
+        sizePrompt.setFont(Fonts.getPixelFont(10));
+
+        myMazeSizeBox = new JComboBox<>(MAZE_SIZE_NAMES);
+        myMazeSizeBox.setFont(Fonts.getPixelFont(8));
+
+        JPanel sizePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 25, 0));
+        sizePanel.setBackground(Color.BLACK);
+        sizePanel.add(sizePrompt);
+        sizePanel.add(myMazeSizeBox);
+
+        myInnerPanel.add(sizePanel, theConstraints);
+        theConstraints.gridy++;
+    }
+
+    /**
+     * Adds the choice of the kind of questions to the inner panel.
+     *
+     * @param theConstraints The GridBagConstraints used for positioning.
+     */
+    private void addQuestionBox(final GridBagConstraints theConstraints) {
+        JLabel questionPrompt = new JLabel(QUESTION_PROMPT);
+        questionPrompt.setForeground(Color.WHITE);
+        questionPrompt.setFont(Fonts.getPixelFont(10));
+
+        myQuestionBox = new JComboBox<>(QUESTION_CHOICE_NAMES);
+        myQuestionBox.setFont(Fonts.getPixelFont(8));
+
+        JPanel questionPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 25, 0));
+        questionPanel.setBackground(Color.BLACK);
+        questionPanel.add(questionPrompt);
+        questionPanel.add(myQuestionBox);
+
+        myInnerPanel.add(questionPanel, theConstraints);
+        theConstraints.gridy++;
+    }
+
     /**
      * Adds difficulty selection buttons to the inner panel.
      *
@@ -170,7 +302,7 @@ public final class PreparationPanel extends JPanel {
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 75, 0));
         buttonPanel.setBackground(Color.BLACK);
 
-        myYesButton = new JButton("Yes, I'm ready!");
+        myYesButton = new JButton(YES_TEXT);
         myNoButton = new JButton("No, I'm scared...");
 
         buttonPanel.add(myYesButton);
@@ -184,9 +316,10 @@ public final class PreparationPanel extends JPanel {
      * Sets up action listeners for the buttons.
      *
      * @param theNameField The JTextField containing the user's name.
+     * @param theSeedField The JTextField containing the optional maze seed.
      */
-    private void setupActionListeners(final JTextField theNameField) {
-        myYesButton.addActionListener(e -> handleYesButton(theNameField));
+    private void setupActionListeners(final JTextField theNameField, final JTextField theSeedField) {
+        myYesButton.addActionListener(e -> handleYesButton(theNameField, theSeedField));
         myNoButton.addActionListener(e -> handleNoButton());
     }
 
@@ -194,8 +327,9 @@ public final class PreparationPanel extends JPanel {
      * Handles the action for the "Yes" button.
      *
      * @param theNameField The JTextField containing the user's name.
+     * @param theSeedField The JTextField containing the optional maze seed.
      */
-    private void handleYesButton(final JTextField theNameField) {
+    private void handleYesButton(final JTextField theNameField, final JTextField theSeedField) {
         String playerName = theNameField.getText().trim();
         if (playerName.isEmpty()) {
             JOptionPane.showMessageDialog(
@@ -205,8 +339,15 @@ public final class PreparationPanel extends JPanel {
                     JOptionPane.WARNING_MESSAGE);
         } else {
             int[] difficulty = getChosenDifficulty();
-            myGameListener.startGame(5, 7, playerName,
-                                        difficulty[0], difficulty[1]);
+            QuestionBank.Filter filter = QUESTION_FILTERS[myQuestionBox.getSelectedIndex()];
+            if (myMazeSizeBox.getSelectedIndex() == ENDLESS_SIZE_INDEX) {
+                myGameListener.startEndlessGame(playerName, difficulty[0], difficulty[1],
+                                                getChosenSeed(theSeedField), filter);
+            } else {
+                int[] size = MAZE_SIZES[myMazeSizeBox.getSelectedIndex()];
+                myGameListener.startGame(size[0], size[1], playerName,
+                                            difficulty[0], difficulty[1], getChosenSeed(theSeedField), filter);
+            }
         }
     }
 
@@ -229,6 +370,25 @@ public final class PreparationPanel extends JPanel {
         }
     }
 
+    /**
+     * Returns the seed typed by the user. Numbers are used as they are and any other text is
+     * hashed, so a shared word gives a shared maze. An empty field gives a random seed.
+     *
+     * @param theSeedField The JTextField containing the optional maze seed.
+     * @return The seed to build the maze from.
+     */
+    private long getChosenSeed(final JTextField theSeedField) {
+        String seedText = theSeedField.getText().trim();
+        if (seedText.isEmpty()) {
+            return new SplittableRandom().nextLong();
+        }
+        try {
+            return Long.parseLong(seedText);
+        } catch (final NumberFormatException theException) {
+            return seedText.hashCode();
+        }
+    }
+
     /**
      * Returns the chosen difficulty level.
      *
@@ -17,6 +17,8 @@ import java.util.List;
 /**
  * The QuestionPanel class represents a panel that displays a question and its corresponding
  * answer options based on the type of question (e.g., multiple choice, boolean, text input).
+ * One answer panel per question type is built up front, and selecting a room only binds the
+ * question to the matching panel, so showing a question creates no components.
  *
  * @author Mathew Miller
  * @author Jacob Klymenko (Javadoc and refactor)
@@ -24,30 +26,38 @@ import java.util.List;
  */
 public final class QuestionPanel extends JPanel {
 
-    /** The button to confirm an answer. */
-    private static JButton myConfirmButton;
-
-    /** The listener for game-related events. */
-    private final GameListener myGameListener;
-
     /** The text area to display the question prompt. */
     private final JTextArea myQuestionPrompt;
 
     /** The text area displaying the instructions. */
     private final JTextArea myInstructions;
 
-    /** The panel containing the answer options. */
-    private JPanel myAnswerPanel;
+    /** The answer panel for multiple choice questions. */
+    private final MultipleChoiceQuestionPanel myMultipleChoicePanel;
+
+    /** The answer panel for true or false questions. */
+    private final BooleanQuestionPanel myBooleanPanel;
+
+    /** The answer panel for text input questions. */
+    private final TextInputQuestionPanel myTextInputPanel;
+
+    /** The component shown below the prompt, either an answer panel or the instructions. */
+    private JComponent myShownComponent;
 
     /**
      * Constructs a QuestionPanel to display a question and its associated answer options.
      *
-     * @param theGameListener the listener for game-related events
+     * @param theGameListener the listener the answer panels report answers to
      */
     public QuestionPanel(final GameListener theGameListener) {
-        myGameListener = theGameListener;
         myQuestionPrompt = new JTextArea();
         myInstructions = createInstructionText();
+        myMultipleChoicePanel = new MultipleChoiceQuestionPanel(theGameListener);
+        myBooleanPanel = new BooleanQuestionPanel(theGameListener);
+        myTextInputPanel = new TextInputQuestionPanel(theGameListener);
+        for (JPanel panel : new JPanel[]{myMultipleChoicePanel, myBooleanPanel, myTextInputPanel}) {
+            panel.setPreferredSize(new Dimension(300, 300));
+        }
 
         setupQuestionPrompt();
 
@@ -76,38 +86,56 @@ public final class QuestionPanel extends JPanel {
     }
 
     /**
-     * The setQuestion method creates a new answer panel depending on the question attached to
-     * the currently selected room. This method also displays the game instructions and a prompt
+     * The setQuestion method binds the question attached to the currently selected room to the
+     * answer panel for its type. This method also displays the game instructions and a prompt
      * asking the user to select a room when there is no question currently displayed.
      *
      * @param theQuestion represents the question assigned to the currently selected room.
      */
     public void setQuestion(final Question theQuestion) {
-        if (myInstructions != null) {
-            remove(myInstructions);
-        }
-        if (myAnswerPanel != null) {
-            remove(myAnswerPanel);
-        }
         if (theQuestion == null) {
             myQuestionPrompt.setText("Please select a room");
-            if (myInstructions != null) {
-                add(myInstructions, BorderLayout.AFTER_LAST_LINE);
-            }
+            show(myInstructions, BorderLayout.AFTER_LAST_LINE);
         } else {
             myQuestionPrompt.setText(theQuestion.getPrompt());
             switch (theQuestion) {
-                case MultipleChoiceQuestion m -> myAnswerPanel = new MultipleChoiceQuestionPanel(myGameListener, m);
-                case BooleanQuestion ignored -> myAnswerPanel = new BooleanQuestionPanel(myGameListener);
-                case TextInputQuestion ignored -> myAnswerPanel = new TextInputQuestionPanel(myGameListener);
+                case MultipleChoiceQuestion m -> {
+                    myMultipleChoicePanel.bind(m);
+                    show(myMultipleChoicePanel, BorderLayout.CENTER);
+                }
+                case BooleanQuestion ignored -> {
+                    myBooleanPanel.reset();
+                    show(myBooleanPanel, BorderLayout.CENTER);
+                }
+                case TextInputQuestion ignored -> {
+                    myTextInputPanel.reset();
+                    show(myTextInputPanel, BorderLayout.CENTER);
+                }
                 default -> throw new IllegalStateException("Unexpected question type");
             }
-            myAnswerPanel.setPreferredSize(new Dimension(300, 300));
-            this.add(myAnswerPanel);
         }
         repaint();
     }
 
+    /**
+     * Shows a component below the prompt in place of the one shown before. Nothing is laid out
+     * again when it is already the one shown.
+     *
+     * @param theComponent the component to show
+     * @param thePosition where in the BorderLayout to show it
+     */
+    private void show(final JComponent theComponent, final String thePosition) {
+        if (theComponent == myShownComponent) {
+            return;
+        }
+        if (myShownComponent != null) {
+            remove(myShownComponent);
+        }
+        add(theComponent, thePosition);
+        myShownComponent = theComponent;
+        revalidate();
+    }
+
     /**
      * Creates and formats the instructions text to be displayed on the question panel.
      *
@@ -145,55 +173,48 @@ public final class QuestionPanel extends JPanel {
     }
 
     /**
-     * Creates a JButton for the user to interact with for the purposes of gameplay.
+     * Creates a confirm button with the visual properties shared by every answer panel.
      *
-     * @param theGameListener game related event handling
-     * @param theBg the button group for the true/false and multiple choice questions
      * @return returns a JButton to confirm answer choice and check correctness
      */
-    private static JButton createConfirmButton(
-            final GameListener theGameListener,
-            final ButtonGroup theBg
-    ) {
-        setConfirmButton();
-        myConfirmButton.addActionListener(e -> {
-            var elements = theBg.getElements();
-            elements.asIterator().forEachRemaining(element -> {
-                JRadioButton button = (JRadioButton) element;
-                if (button.isSelected()) {
-                    theGameListener.checkAnswer(button.getText());
-
-                }
-            });
-        });
-        return myConfirmButton;
+    private static JButton createConfirmButton() {
+        JButton confirmButton = new JButton("Confirm");
+        confirmButton.setBackground(Color.BLACK);
+        confirmButton.setForeground(Color.WHITE);
+        confirmButton.setFont(Fonts.getPixelFont(12));
+        confirmButton.setBorder(new RoundedBorder(20, new Insets(10, 0, 10, 0)));
+        confirmButton.setPreferredSize(new Dimension(150, 100));
+        return confirmButton;
     }
 
     /**
-     * An alternative method for creating a confirm button for use with a text input type
-     * question as there are no associated button groups or labels for this type of question.
+     * Adds a confirm button to an answer panel, centred on its own row.
      *
-     * @param theGameListener the listener for game-related events
-     * @param theInput A JTextField that represents a users response to a question.
-     * @return returns a confirm button for use with text input type questions.
+     * @param thePanel the answer panel
+     * @param theConfirmButton the confirm button
      */
-    private static JButton createInputConfirmButton(final GameListener theGameListener,
-                                                    final JTextField theInput) {
-        setConfirmButton();
-        myConfirmButton.addActionListener(e -> theGameListener.checkAnswer(theInput.getText()));
-        return myConfirmButton;
+    private static void addConfirmButton(final JPanel thePanel, final JButton theConfirmButton) {
+        Box wrapper = Box.createHorizontalBox();
+        wrapper.add(Box.createHorizontalGlue());
+        wrapper.add(theConfirmButton);
+        wrapper.add(Box.createHorizontalGlue());
+        thePanel.add(wrapper);
     }
 
     /**
-     *  Sets the visual properties of a confirm button,
+     * Sends the text of the selected radio button, if any, to the listener as the answer.
+     *
+     * @param theGameListener the listener for game-related events
+     * @param theButtons the radio buttons of an answer panel
      */
-    private static void setConfirmButton() {
-        myConfirmButton = new JButton("Confirm");
-        myConfirmButton.setBackground(Color.BLACK);
-        myConfirmButton.setForeground(Color.WHITE);
-        myConfirmButton.setFont(Fonts.getPixelFont(12));
-        myConfirmButton.setBorder(new RoundedBorder(20, new Insets(10, 0, 10, 0)));
-        myConfirmButton.setPreferredSize(new Dimension(150, 100));
+    private static void checkSelectedAnswer(final GameListener theGameListener,
+                                            final List<JRadioButton> theButtons) {
+        for (JRadioButton button : theButtons) {
+            if (button.isVisible() && button.isSelected()) {
+                theGameListener.checkAnswer(button.getText());
+                return;
+            }
+        }
     }
 
     /* Inner Classes *//////////////////////////////////////////////////////////////////////////////
@@ -201,54 +222,71 @@ public final class QuestionPanel extends JPanel {
     /**
      * Represents a panel for displaying multiple choice type questions. This panel displays the
      * possible answer choices and allows the user to select one option. It sets up a user
-     * interface with radio buttons for each answer choice.
+     * interface with radio buttons for each answer choice, which are reused for every question.
      *
      * @author Mathew Miller
      * @version 1.0
      */
     private static class MultipleChoiceQuestionPanel extends JPanel {
 
+        /** The group that keeps one answer selected. */
+        private final ButtonGroup myGroup = new ButtonGroup();
+
+        /** The radio buttons for the answers, only the first as many as there are answers are shown. */
+        private final List<JRadioButton> myButtons = new ArrayList<>();
+
+        /** The box the radio buttons are stacked in. */
+        private final Box myButtonBox = Box.createVerticalBox();
+
         /**
-         * Constructs a MultipleChoiceQuestionPanel to display the given multiple choice question.
-         * It sets up the UI with radio buttons for each possible answer, and a confirm button to
-         * submit the answer.
+         * Constructs a MultipleChoiceQuestionPanel without answers. It sets up the UI with a
+         * confirm button to submit the answer, the radio buttons are added by bind.
          *
          * @param theGameListener The game listener that handles the user's response to the question.
-         * @param theQuestion The multiple choice question to be displayed.
          */
-        public MultipleChoiceQuestionPanel(final GameListener theGameListener,
-                                           final MultipleChoiceQuestion theQuestion) {
+        public MultipleChoiceQuestionPanel(final GameListener theGameListener) {
             setBackground(Color.BLACK);
             setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
-            List<String> answers = theQuestion.getPossibleAnswers();
-            Collections.shuffle(answers);
-
-            ButtonGroup bg = new ButtonGroup();
             add(Box.createVerticalGlue());
 
             Box horizontalWrapper = Box.createHorizontalBox();
-            Box wrapper = Box.createVerticalBox();
-            for (String answer : answers) {
-                JRadioButton radioButton = new JRadioButton(answer);
-                setAnswerPanel(bg, wrapper, radioButton);
-            }
-
-            horizontalWrapper.add(wrapper);
+            horizontalWrapper.add(myButtonBox);
             horizontalWrapper.add(Box.createHorizontalGlue());
             add(horizontalWrapper);
 
             add(Box.createVerticalGlue());
 
-            JButton confirmButton = createConfirmButton(theGameListener, bg);
-            wrapper = Box.createHorizontalBox();
-            wrapper.add(Box.createHorizontalGlue());
-            wrapper.add(confirmButton);
-            wrapper.add(Box.createHorizontalGlue());
-            add(wrapper);
+            JButton confirmButton = createConfirmButton();
+            confirmButton.addActionListener(e -> checkSelectedAnswer(theGameListener, myButtons));
+            addConfirmButton(this, confirmButton);
 
             add(Box.createVerticalGlue());
         }
 
+        /**
+         * Shows the answers of a question in a random order with none selected. Radio buttons
+         * are only created when a question has more answers than any shown before.
+         *
+         * @param theQuestion The multiple choice question to be displayed.
+         */
+        public void bind(final MultipleChoiceQuestion theQuestion) {
+            List<String> answers = theQuestion.getPossibleAnswers();
+            Collections.shuffle(answers);
+            while (myButtons.size() < answers.size()) {
+                JRadioButton radioButton = new JRadioButton();
+                setAnswerPanel(myGroup, myButtonBox, radioButton);
+                myButtons.add(radioButton);
+            }
+            myGroup.clearSelection();
+            for (int i = 0; i < myButtons.size(); i++) {
+                JRadioButton button = myButtons.get(i);
+                button.setVisible(i < answers.size());
+                if (i < answers.size()) {
+                    button.setText(answers.get(i));
+                }
+            }
+        }
+
         /**
          * Sets the visual properties of the answer panel.
          *
@@ -278,8 +316,11 @@ public final class QuestionPanel extends JPanel {
      */
     private static class BooleanQuestionPanel extends JPanel {
 
+        /** The group that keeps one answer selected. */
+        private final ButtonGroup myGroup = new ButtonGroup();
+
         /**
-         * Constructs a BooleanQuestionPanel to display the given boolean question.
+         * Constructs a BooleanQuestionPanel for boolean questions.
          * It sets up the UI with two radio buttons, one for "True" and one for "False", and a
          * confirm button.
          *
@@ -289,7 +330,6 @@ public final class QuestionPanel extends JPanel {
 
             setBackground(Color.BLACK);
             setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
-            ButtonGroup bg = new ButtonGroup();
             add(Box.createVerticalGlue());
 
             Box horizontalWrapper = Box.createHorizontalBox();
@@ -303,7 +343,7 @@ public final class QuestionPanel extends JPanel {
             buttons.add(f);
 
             for (JRadioButton button : buttons) {
-                MultipleChoiceQuestionPanel.setAnswerPanel(bg, wrapper, button);
+                MultipleChoiceQuestionPanel.setAnswerPanel(myGroup, wrapper, button);
             }
 
             horizontalWrapper.add(wrapper);
@@ -312,15 +352,19 @@ public final class QuestionPanel extends JPanel {
 
             add(Box.createVerticalGlue());
 
-            JButton confirmButton = createConfirmButton(theGameListener, bg);
-            wrapper = Box.createHorizontalBox();
-            wrapper.add(Box.createHorizontalGlue());
-            wrapper.add(confirmButton);
-            wrapper.add(Box.createHorizontalGlue());
-            add(wrapper);
+            JButton confirmButton = createConfirmButton();
+            confirmButton.addActionListener(e -> checkSelectedAnswer(theGameListener, buttons));
+            addConfirmButton(this, confirmButton);
 
             add(Box.createVerticalGlue());
         }
+
+        /**
+         * Clears the selected answer for the next question.
+         */
+        public void reset() {
+            myGroup.clearSelection();
+        }
     }
 
     /**
@@ -329,8 +373,14 @@ public final class QuestionPanel extends JPanel {
      */
     private static class TextInputQuestionPanel extends JPanel {
 
+        /** The text shown in the input field before the user types an answer. */
+        private static final String PLACEHOLDER = "Enter your answer here.";
+
+        /** The field the answer is typed in. */
+        private final JTextField myInput;
+
         /**
-         * Constructs a TextInputQuestionPanel to display the given text input question.
+         * Constructs a TextInputQuestionPanel for text input questions.
          * It sets up the UI with a text field for the user to type their answer, and a confirm button.
          *
          * @param theGameListener The game listener that handles the user's response to the question.
@@ -339,7 +389,6 @@ public final class QuestionPanel extends JPanel {
             setBackground(Color.BLACK);
             setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
             Box.createVerticalBox();
-            Box wrapper;
             Box.createHorizontalBox();
 
             add(Box.createVerticalGlue());
@@ -349,32 +398,35 @@ public final class QuestionPanel extends JPanel {
             textPanel.setBackground(Color.BLACK);
             add(textPanel);
 
-            JTextField input = new JTextField("Enter your answer here.");
-            input.setBackground(Color.BLACK);
-            input.setForeground(Color.WHITE);
-            input.setFont(Fonts.getPixelFont(14));
-            input.setBorder(new RoundedBorder(20, new Insets(5, 5, 5, 5)));
-            input.addMouseListener(new MouseAdapter() {
+            myInput = new JTextField(PLACEHOLDER);
+            myInput.setBackground(Color.BLACK);
+            myInput.setForeground(Color.WHITE);
+            myInput.setFont(Fonts.getPixelFont(14));
+            myInput.setBorder(new RoundedBorder(20, new Insets(5, 5, 5, 5)));
+            myInput.addMouseListener(new MouseAdapter() {
                 @Override
                 public void mouseClicked(MouseEvent e) {
-                    if (input.getText().equals("Enter your answer here.")) {
-                        input.setText("");
+                    if (myInput.getText().equals(PLACEHOLDER)) {
+                        myInput.setText("");
                     }
-                    input.setCursor(new Cursor(Cursor.HAND_CURSOR));
-                    input.setCaretColor(Color.white);
+                    myInput.setCursor(new Cursor(Cursor.HAND_CURSOR));
+                    myInput.setCaretColor(Color.white);
                 }
             });
-            textPanel.add(input);
+            textPanel.add(myInput);
 
-            JButton confirmButton = createInputConfirmButton(theGameListener, input);
-
-            wrapper = Box.createHorizontalBox();
-            wrapper.add(Box.createHorizontalGlue());
-            wrapper.add(confirmButton);
-            wrapper.add(Box.createHorizontalGlue());
-            add(wrapper);
+            JButton confirmButton = createConfirmButton();
+            confirmButton.addActionListener(e -> theGameListener.checkAnswer(myInput.getText()));
+            addConfirmButton(this, confirmButton);
 
             add(Box.createVerticalGlue());
         }
+
+        /**
+         * Puts the placeholder back in the input field for the next question.
+         */
+        public void reset() {
+            myInput.setText(PLACEHOLDER);
+        }
     }
 }
@@ -2,11 +2,8 @@ package view;
 
 import controller.GameListener;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
-import java.io.IOException;
-import java.io.InputStream;
 
 /**
  * A JPanel subclass that displays the result screen after the game ends, showing either a victory
@@ -241,22 +238,7 @@ public final class ResultScreenPanel extends JPanel {
     @Override
     protected void paintComponent(final Graphics theGraphics) {
         super.paintComponent(theGraphics);
-        InputStream backgroundImageStream;
-        if (myResult) {
-            backgroundImageStream = getClass().getResourceAsStream("/menuScreens/winScreen96x54.png");
-        } else {
-            backgroundImageStream = getClass().getResourceAsStream("/menuScreens/lossScreen_96x54.png");
-        }
-
-        if (backgroundImageStream != null) {
-            try {
-                Image image = ImageIO.read(backgroundImageStream);
-                theGraphics.drawImage(image, 0, 0, 1214, 720, null);
-                backgroundImageStream.close();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-
+        final String background = myResult ? ImageCache.WIN_SCREEN : ImageCache.LOSS_SCREEN;
+        theGraphics.drawImage(ImageCache.getScaled(background, getWidth(), getHeight()), 0, 0, null);
     }
 }
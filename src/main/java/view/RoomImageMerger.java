@@ -3,83 +3,45 @@ package view;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.Objects;
 
+import model.PlayableMaze;
+import model.RoomEnums;
 import model.RoomEnums.*;
 
+import static model.RoomEnums.DOOR_DIRECTIONS;
+import static model.RoomEnums.ROOM_ARRAY_VALUES;
+import static model.RoomEnums.ROOM_INFOS;
+
 /**
- * A class that merges 128x128 images together to create a visual representation of a room. This
- * class loads a set of predefined images and provides functionality to merge the based on the
- * room's data.
+ * A class that merges room layers together to create a visual representation of a room. The
+ * layers come from the {@link SpriteAtlas}, already scaled to the zoom level that is drawn.
  *
  * @author Cai Spidel
  * @version 1.0
  */
 public final class RoomImageMerger {
 
+    /** The number of values the fill layer of a tile key can take, every RoomInfo or none. */
+    private static final int FILL_KEYS = ROOM_INFOS.length + 1;
+
+    /** The number of tile keys for each fill, one for each set of open doors and highlight. */
+    private static final int KEYS_PER_FILL = 1 << (DOOR_DIRECTIONS.length + 1);
+
     /**
-     * A static array of images representing different room elements and their statuses. The images
-     * are loaded from resource files.
+     * The merged images that have been composed, by zoom level and tile key. A room only has a few hundred
+     * different looks, so each one is composed once and then shared. Like the rest of the view,
+     * this is only used from the event dispatch thread.
      */
-    private static final Image[] ROOM_IMAGES = new Image[20];
-
-    static {
-        try {
-            // door values
-            ROOM_IMAGES[0] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/wiDoor/nWiDoor.png"))).getImage();
-            ROOM_IMAGES[1] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/noDoor/nNoDoor.png"))).getImage();
-            ROOM_IMAGES[2] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/wiDoor/eWiDoor.png"))).getImage();
-            ROOM_IMAGES[3] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/noDoor/eNoDoor.png"))).getImage();
-            ROOM_IMAGES[4] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/wiDoor/sWiDoor.png"))).getImage();
-            ROOM_IMAGES[5] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/noDoor/sNoDoor.png"))).getImage();
-            ROOM_IMAGES[6] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/wiDoor/wWiDoor.png"))).getImage();
-            ROOM_IMAGES[7] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/noDoor/wNoDoor.png"))).getImage();
-
-            // status values
-            ROOM_IMAGES[8] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/fillRoom/lockFillRoom.png"))).getImage();
-            ROOM_IMAGES[9] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/fillRoom/mystFillRoom.png"))).getImage();
-
-            // extra status
-            ROOM_IMAGES[10] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/fillRoom/permLockFillRoom.png"))).getImage();
-            ROOM_IMAGES[11] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/fillRoom/vicLockFillRoom.png"))).getImage();
-
-            // highlight values
-            ROOM_IMAGES[12] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/roomHigLig/roomWiHigLig.png"))).getImage();
-            ROOM_IMAGES[13] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/roomHigLig/roomNoHigLig.png"))).getImage();
-
-            // basic values
-            ROOM_IMAGES[14] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/fillRoom/lndscFillRoom.png"))).getImage();
-            ROOM_IMAGES[15] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/fillRoom/santaFillRoom.png"))).getImage();
-            ROOM_IMAGES[16] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/fillRoom/treeFillRoom.png"))).getImage();
-
-            // added values
-            ROOM_IMAGES[17] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/fillRoom/fireplaceFillRoom.png"))).getImage();
-            ROOM_IMAGES[18] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/fillRoom/giftsFillRoom.png"))).getImage();
-            ROOM_IMAGES[19] = new ImageIcon(Objects.requireNonNull
-                    (RoomImageMerger.class.getResource("/roomFiles/fillRoom/moonFillRoom.png"))).getImage();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
+    private static final Image[][] TILE_CACHE = new Image[SpriteAtlas.MAX_ZOOM + 1][FILL_KEYS * KEYS_PER_FILL];
+
+    /** The icons of the cached tiles, by zoom level and tile key. */
+    private static final ImageIcon[][] ICON_CACHE = new ImageIcon[SpriteAtlas.MAX_ZOOM + 1][FILL_KEYS * KEYS_PER_FILL];
+
+    /** The number of merges that were served from the tile cache. */
+    private static int myCacheHits;
+
+    /** The number of merges that had to compose a new image. */
+    private static int myCacheMisses;
 
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -89,20 +51,191 @@ public final class RoomImageMerger {
     /**
      * Merges a 16x16 set of images together. The images are obtained from the string
      * representations of file locations. This is the visual representation of a room.
+     * Room info laid out as {@link model.Room#getRoomInfo()} gives it is served from the tile
+     * cache, so the returned image is shared and must not be drawn on.
      *
      * @param theRoomInfo the images to be merged, in render order.
      * @return the merged image.
      */
     public static Image MergeImage(final RoomInfo[] theRoomInfo) {
-        int width = 16;
-        int height = 16;
+        return MergeImage(theRoomInfo, 1);
+    }
+
+    /**
+     * Merges the layers of a room from the sprite atlas at a zoom level.
+     * Room info laid out as {@link model.Room#getRoomInfo()} gives it is served from the tile
+     * cache, so the returned image is shared and must not be drawn on.
+     *
+     * @param theRoomInfo the images to be merged, in render order.
+     * @param theZoom the zoom level, from 1 to SpriteAtlas.MAX_ZOOM.
+     * @return the merged image, SpriteAtlas.TILE_SIZE times theZoom pixels wide and high.
+     */
+    public static Image MergeImage(final RoomInfo[] theRoomInfo, final int theZoom) {
+        final int key = tileKey(theRoomInfo);
+        if (key < 0) {
+            myCacheMisses++;
+            return composeImage(theRoomInfo, theZoom);
+        }
+        return getTile(key, theZoom);
+    }
+
+    /**
+     * Gets the merged image of a room of a maze at a zoom level. The tile key is read straight
+     * from the state of the maze, so drawing a room that is cached allocates nothing.
+     *
+     * @param theMaze the maze holding the room.
+     * @param theIndex the index of the room in the maze.
+     * @param theZoom the zoom level, from 1 to SpriteAtlas.MAX_ZOOM.
+     * @return the shared merged image, SpriteAtlas.TILE_SIZE times theZoom pixels wide and high.
+     */
+    public static Image MergeImage(final PlayableMaze theMaze, final int theIndex, final int theZoom) {
+        return getTile(tileKey(theMaze, theIndex), theZoom);
+    }
+
+    /**
+     * Gets the merged image of a room at a zoom level as an icon, for buttons and labels.
+     * Icons of cached tiles are made once and shared.
+     *
+     * @param theRoomInfo the images to be merged, in render order.
+     * @param theZoom the zoom level, from 1 to SpriteAtlas.MAX_ZOOM.
+     * @return the icon.
+     */
+    public static ImageIcon getTileIcon(final RoomInfo[] theRoomInfo, final int theZoom) {
+        final Image tile = MergeImage(theRoomInfo, theZoom);
+        final int key = tileKey(theRoomInfo);
+        if (key < 0) {
+            return new ImageIcon(tile);
+        }
+        ImageIcon icon = ICON_CACHE[theZoom][key];
+        if (icon == null) {
+            icon = new ImageIcon(tile);
+            ICON_CACHE[theZoom][key] = icon;
+        }
+        return icon;
+    }
+
+    /**
+     * Gets the number of merges that were served from the tile cache.
+     *
+     * @return the number of cache hits.
+     */
+    public static int getCacheHits() {
+        return myCacheHits;
+    }
+
+    /**
+     * Gets the number of merges that had to compose a new image.
+     *
+     * @return the number of cache misses.
+     */
+    public static int getCacheMisses() {
+        return myCacheMisses;
+    }
+
+    /**
+     * Packs room info into a tile key: the fill, then one bit for each open door and one bit
+     * for the highlight.
+     *
+     * @param theRoomInfo the room info, laid out by RoomArrayValues.
+     * @return the tile key, or -1 if the room info is not laid out by RoomArrayValues.
+     */
+    static int tileKey(final RoomInfo[] theRoomInfo) {
+        if (theRoomInfo.length != ROOM_ARRAY_VALUES.length) {
+            return -1;
+        }
+        final RoomInfo fill = theRoomInfo[RoomArrayValues.ROOM_FILL.ordinal()];
+        int key = fill == null ? ROOM_INFOS.length : fill.ordinal();
+        for (DoorDirection direction : DOOR_DIRECTIONS) {
+            final RoomInfo door = theRoomInfo[RoomEnums.doorDirToArrayVal(direction)];
+            if (door == RoomEnums.doorDirToRoomInfo(direction, true)) {
+                key = key << 1 | 1;
+            } else if (door == RoomEnums.doorDirToRoomInfo(direction, false)) {
+                key = key << 1;
+            } else {
+                return -1;
+            }
+        }
+        final RoomInfo highlight = theRoomInfo[RoomArrayValues.ROOM_HIGHLIGHT.ordinal()];
+        if (highlight == RoomInfo.WITH_HIGHLIGHT) {
+            return key << 1 | 1;
+        } else if (highlight == RoomInfo.NO_HIGHLIGHT) {
+            return key << 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Packs the state of a room of a maze into a tile key, the same key tileKey gives for the
+     * room info of that room.
+     *
+     * @param theMaze the maze holding the room.
+     * @param theIndex the index of the room in the maze.
+     * @return the tile key.
+     */
+    static int tileKey(final PlayableMaze theMaze, final int theIndex) {
+        int key = theMaze.getShownFill(theIndex).ordinal();
+        for (DoorDirection direction : DOOR_DIRECTIONS) {
+            key = key << 1 | (theMaze.isDoorOpen(theIndex, direction) ? 1 : 0);
+        }
+        return key << 1 | (theMaze.isHighlighted(theIndex) ? 1 : 0);
+    }
+
+    /**
+     * Unpacks a tile key into the room info it was made from.
+     *
+     * @param theKey the tile key.
+     * @return the room info, laid out by RoomArrayValues.
+     */
+    static RoomInfo[] roomInfoOf(final int theKey) {
+        final RoomInfo[] result = new RoomInfo[ROOM_ARRAY_VALUES.length];
+        int key = theKey;
+        result[RoomArrayValues.ROOM_HIGHLIGHT.ordinal()] =
+                (key & 1) != 0 ? RoomInfo.WITH_HIGHLIGHT : RoomInfo.NO_HIGHLIGHT;
+        key >>= 1;
+        for (int i = DOOR_DIRECTIONS.length - 1; i >= 0; i--) {
+            final DoorDirection direction = DOOR_DIRECTIONS[i];
+            result[RoomEnums.doorDirToArrayVal(direction)] = RoomEnums.doorDirToRoomInfo(direction, (key & 1) != 0);
+            key >>= 1;
+        }
+        result[RoomArrayValues.ROOM_FILL.ordinal()] = key == ROOM_INFOS.length ? null : ROOM_INFOS[key];
+        return result;
+    }
+
+    /**
+     * Gets the cached tile of a key, composing it the first time it is asked for.
+     *
+     * @param theKey the tile key.
+     * @param theZoom the zoom level.
+     * @return the shared merged image.
+     */
+    private static Image getTile(final int theKey, final int theZoom) {
+        Image tile = TILE_CACHE[theZoom][theKey];
+        if (tile == null) {
+            myCacheMisses++;
+            tile = composeImage(roomInfoOf(theKey), theZoom);
+            TILE_CACHE[theZoom][theKey] = tile;
+        } else {
+            myCacheHits++;
+        }
+        return tile;
+    }
+
+    /**
+     * Draws the layers of a room from the sprite atlas onto a new image.
+     *
+     * @param theRoomInfo the images to be merged, in render order.
+     * @param theZoom the zoom level of the layers.
+     * @return the merged image.
+     */
+    private static Image composeImage(final RoomInfo[] theRoomInfo, final int theZoom) {
+        int size = SpriteAtlas.TILE_SIZE * theZoom;
 
-        Image mergedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Image mergedImage = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
         Graphics graphics = mergedImage.getGraphics();
 
         for (RoomInfo roomInfo : theRoomInfo) {
             if(roomInfo != null) {
-                graphics.drawImage(ROOM_IMAGES[roomInfo.ordinal()], 0, 0, null);
+                graphics.drawImage(SpriteAtlas.getLayer(roomInfo, theZoom), 0, 0, null);
             }
         }
         graphics.dispose();
@@ -0,0 +1,130 @@
+package view;
+
+import model.RoomEnums.RoomInfo;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static model.RoomEnums.ROOM_INFOS;
+
+/**
+ * Holds every room layer from the roomFiles folder, pre-scaled for each supported zoom level.
+ * The layers are 16x16 pixel art, so they are scaled by whole numbers with nearest neighbour
+ * sampling, which keeps every pixel sharp. Everything is built once when the class is loaded,
+ * after that drawing a room only copies finished images.
+ *
+ * @author Cai Spidel
+ * @version 1.0
+ */
+public final class SpriteAtlas {
+
+    /** The width and height of a layer before it is scaled. */
+    public static final int TILE_SIZE = 16;
+
+    /** The largest zoom level, the smallest is 1. */
+    public static final int MAX_ZOOM = 6;
+
+    /** The layers by zoom level and then RoomInfo ordinal. Index 0 is unused. */
+    private static final BufferedImage[][] LAYERS = new BufferedImage[MAX_ZOOM + 1][ROOM_INFOS.length];
+
+    static {
+        try {
+            for (int info = 0; info < ROOM_INFOS.length; info++) {
+                LAYERS[1][info] = toArgb(AssetLoader.getImage(AssetLoader.ROOM_LAYER_FILES[info]));
+                for (int zoom = 2; zoom <= MAX_ZOOM; zoom++) {
+                    LAYERS[zoom][info] = scale(LAYERS[1][info], zoom);
+                }
+            }
+        } catch (final Exception theError) {
+            throw new RuntimeException("Problem with sprite atlas initialization: " + theError);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private SpriteAtlas() { /* do nothing */ }
+
+    /**
+     * Gets the layer of a RoomInfo at a zoom level. The image is shared and must not be drawn on.
+     *
+     * @param theRoomInfo the room info.
+     * @param theZoom the zoom level, from 1 to MAX_ZOOM.
+     * @return the layer, TILE_SIZE times theZoom pixels wide and high.
+     */
+    public static BufferedImage getLayer(final RoomInfo theRoomInfo, final int theZoom) {
+        return LAYERS[checkZoom(theZoom)][theRoomInfo.ordinal()];
+    }
+
+    /**
+     * Gets the largest zoom level whose tiles fit in the given size.
+     *
+     * @param theSize the width and height available, in pixels.
+     * @return the zoom level, at least 1 and at most MAX_ZOOM.
+     */
+    public static int zoomToFit(final int theSize) {
+        return Math.max(1, Math.min(MAX_ZOOM, theSize / TILE_SIZE));
+    }
+
+    /**
+     * Scales an image up by a whole number with nearest neighbour sampling,
+     * so every source pixel becomes a square block of pixels.
+     *
+     * @param theImage the image to scale.
+     * @param theFactor the number of pixels each source pixel becomes in each direction.
+     * @return the scaled image.
+     */
+    public static BufferedImage scale(final BufferedImage theImage, final int theFactor) {
+        final int width = theImage.getWidth();
+        final int height = theImage.getHeight();
+        final int scaledWidth = width * theFactor;
+        final int[] source = theImage.getRGB(0, 0, width, height, null, 0, width);
+        final int[] scaled = new int[scaledWidth * height * theFactor];
+        for (int y = 0; y < height; y++) {
+            final int firstRow = y * theFactor * scaledWidth;
+            for (int x = 0; x < width; x++) {
+                final int pixel = source[x + y * width];
+                final int start = firstRow + x * theFactor;
+                for (int i = 0; i < theFactor; i++) {
+                    scaled[start + i] = pixel;
+                }
+            }
+            // the other rows of the block are copies of the first
+            for (int row = 1; row < theFactor; row++) {
+                System.arraycopy(scaled, firstRow, scaled, firstRow + row * scaledWidth, scaledWidth);
+            }
+        }
+        final BufferedImage result = new BufferedImage(scaledWidth, height * theFactor,
+                BufferedImage.TYPE_INT_ARGB);
+        result.setRGB(0, 0, scaledWidth, height * theFactor, scaled, 0, scaledWidth);
+        return result;
+    }
+
+    /**
+     * Checks that a zoom level is supported.
+     *
+     * @param theZoom the zoom level.
+     * @return the zoom level.
+     */
+    private static int checkZoom(final int theZoom) {
+        if (theZoom < 1 || theZoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("Zoom level " + theZoom + " is not supported");
+        }
+        return theZoom;
+    }
+
+    /**
+     * Copies an image into the ARGB format all layers are kept in.
+     *
+     * @param theImage the image.
+     * @return the image in ARGB.
+     */
+    private static BufferedImage toArgb(final BufferedImage theImage) {
+        final BufferedImage result = new BufferedImage(theImage.getWidth(), theImage.getHeight(),
+                BufferedImage.TYPE_INT_ARGB);
+        final Graphics graphics = result.getGraphics();
+        graphics.drawImage(theImage, 0, 0, null);
+        graphics.dispose();
+        return result;
+    }
+}
@@ -3,14 +3,19 @@ package view;
 import controller.GameListener;
 import model.Player;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A panel displaying the player's status, including health and hints. It also contains a button to
- * use a hint, updating the display based on the player's current state.
+ * use a hint, updating the display based on the player's current state. The icons are scaled once
+ * and shown by a pool of labels sized to the player's maximum health and hints, so the pool is
+ * only rebuilt when a game with other maximums starts. After that an update only shows or hides
+ * labels, though a change in count still revalidates the row, since a label that is shown or
+ * hidden asks for a new layout.
  *
  * @author Jacob Klymenko
  * @author Mathew Miller
@@ -33,11 +38,11 @@ public final class StatusBarPanel extends JPanel {
     /** The JButton used to trigger the hint action. */
     private final JButton myGetHint;
 
-    /** The image for the player's health display. */
-    private final BufferedImage myHealthImage;
+    /** The icon for the player's health display, scaled to ICON_SIZE. */
+    private final ImageIcon myHealthIcon;
 
-    /** The image for the hint display. */
-    private final BufferedImage myHintImage;
+    /** The icon for the hint display, scaled to ICON_SIZE. */
+    private final ImageIcon myHintIcon;
 
     /** The JPanel used to display the player's health status. */
     private final JPanel myHealthPanel;
@@ -45,6 +50,12 @@ public final class StatusBarPanel extends JPanel {
     /** The JPanel used to display the player's hint status. */
     private final JPanel myHintPanel;
 
+    /** The labels showing the health icons, in order. */
+    private final List<JLabel> myHealthLabels = new ArrayList<>();
+
+    /** The labels showing the hint icons, in order. */
+    private final List<JLabel> myHintLabels = new ArrayList<>();
+
     /**
      * Constructs a StatusBarPanel to display the player's status, including health and hints.
      *
@@ -53,11 +64,11 @@ public final class StatusBarPanel extends JPanel {
     public StatusBarPanel(final GameListener theGameListener) {
         myGameListener = theGameListener;
         setPanelDefaults();
-        myHealthImage = loadImage("/statusBarFiles/heart.png");
-        myHintImage = loadImage("/statusBarFiles/lightbulb.png");
+        myHealthIcon = createIcon(AssetLoader.getImage(AssetLoader.HEART_IMAGE));
+        myHintIcon = createIcon(AssetLoader.getImage(AssetLoader.LIGHTBULB_IMAGE));
 
-        myHealthPanel = createStatusPanelContainer();
-        myHintPanel = createStatusPanelContainer();
+        myHealthPanel = createStatusPanel("Life: ");
+        myHintPanel = createStatusPanel("Gifts: ");
 
         myGetHint = createHintButton();
 
@@ -76,28 +87,13 @@ public final class StatusBarPanel extends JPanel {
     }
 
     /**
-     * Loads an image from the given path.
-     *
-     * @param thePath the path to the image resource
-     * @return the loaded BufferedImage
-     */
-    private BufferedImage loadImage(final String thePath) {
-        try {
-            return ImageIO.read(getClass().getResource(thePath));
-        } catch (final Exception theError) {
-            throw new RuntimeException("Problem with image initialization; " + theError);
-        }
-    }
-
-    /**
-     * Creates a reusable container for status panels.
+     * Scales an image to the size of the status icons.
      *
-     * @return a JPanel for displaying status elements
+     * @param theImage the image to scale
+     * @return the scaled icon
      */
-    private JPanel createStatusPanelContainer() {
-        JPanel panel = new JPanel();
-        panel.setBackground(Color.BLACK);
-        return panel;
+    private ImageIcon createIcon(final BufferedImage theImage) {
+        return new ImageIcon(theImage.getScaledInstance(ICON_SIZE, ICON_SIZE, Image.SCALE_DEFAULT));
     }
 
     /**
@@ -131,64 +127,85 @@ public final class StatusBarPanel extends JPanel {
     }
 
     /**
-     * Creates a JPanel with text and images displaying the player's status (e.g., health or hints).
+     * Creates a panel with a label text. The icon labels are added after it by updateStatusPanel.
      *
      * @param theText the label text to display
-     * @param theImage the image to display next to the text
-     * @param theNumImages the number of images to display
-     * @return the JPanel containing the text and images
+     * @return the JPanel holding the status row
      */
-    private JPanel createStatusPanel(final String theText,
-                                     final BufferedImage theImage,
-                                     final int theNumImages) {
-        JPanel panel = new JPanel();
-        panel.setBackground(Color.BLACK);
-        panel.setMaximumSize(new Dimension(Integer.MAX_VALUE, ICON_SIZE));
-        panel.setLayout(new GridBagLayout());
-
-        GridBagConstraints constraint = new GridBagConstraints();
-        constraint.gridx = 0;
+    private JPanel createStatusPanel(final String theText) {
+        JPanel row = new JPanel();
+        row.setBackground(Color.BLACK);
+        row.setMaximumSize(new Dimension(Integer.MAX_VALUE, ICON_SIZE));
+        row.setLayout(new GridBagLayout());
 
         JTextArea textArea = new JTextArea(theText);
         textArea.setEditable(false);
         textArea.setBackground(Color.BLACK);
         textArea.setForeground(Color.WHITE);
         textArea.setFont(Fonts.getPixelFont(16));
-        panel.add(textArea, constraint);
-        constraint.gridx++;
-
-        for (int i = 0; i < theNumImages; i++) {
-            JLabel imageLabel = new JLabel(new ImageIcon(
-                    theImage.getScaledInstance(ICON_SIZE, ICON_SIZE, Image.SCALE_DEFAULT)));
-            panel.add(imageLabel, constraint);
-            constraint.gridx++;
-        }
+        row.add(textArea, new GridBagConstraints());
+
+        JPanel panel = new JPanel();
+        panel.setBackground(Color.BLACK);
+        panel.add(row);
         return panel;
     }
 
+    /**
+     * Adds an icon label to the end of a status row.
+     *
+     * @param theRow the row to add the label to
+     * @param theLabels the icon labels of the row
+     * @param theIcon the icon of the label
+     */
+    private void addIconLabel(final JPanel theRow, final List<JLabel> theLabels, final ImageIcon theIcon) {
+        GridBagConstraints constraint = new GridBagConstraints();
+        constraint.gridx = theLabels.size() + 1;
+        JLabel label = new JLabel(theIcon);
+        theRow.add(label, constraint);
+        theLabels.add(label);
+    }
+
     /**
      * Updates the status bar to display the player's current health and hints.
      *
      * @param thePlayer Current player info to update the UI with.
      */
     public void setPlayerInfo(final Player thePlayer) {
-        updateStatusPanel(myHealthPanel, "Life: ", myHealthImage, thePlayer.getHealth());
-        updateStatusPanel(myHintPanel, "Gifts: ", myHintImage, thePlayer.getHints());
+        updateStatusPanel(myHealthPanel, myHealthLabels, myHealthIcon,
+                thePlayer.getHealth(), thePlayer.getMaxHealth());
+        updateStatusPanel(myHintPanel, myHintLabels, myHintIcon,
+                thePlayer.getHints(), thePlayer.getMaxHints());
     }
 
     /**
-     * Updates a status panel with new data.
+     * Shows the given number of icons in a status panel. The labels are first resized to the
+     * maximum, which only adds or removes labels when a new game starts, then the labels past
+     * the count are hidden.
      *
      * @param thePanel the panel to update
-     * @param theLabel the label text
-     * @param theImage the image to display
-     * @param theCount the number of images to display
+     * @param theLabels the icon labels of the panel
+     * @param theIcon the icon to display
+     * @param theCount the number of icons to display
+     * @param theMax the largest number of icons the player can have
      */
-    private void updateStatusPanel(final JPanel thePanel, final String theLabel,
-                                   final BufferedImage theImage, final int theCount) {
-        thePanel.removeAll();
-        thePanel.add(createStatusPanel(theLabel, theImage, theCount));
-        thePanel.repaint();
+    private void updateStatusPanel(final JPanel thePanel, final List<JLabel> theLabels,
+                                   final ImageIcon theIcon, final int theCount, final int theMax) {
+        final JPanel row = (JPanel) thePanel.getComponent(0);
+        final int size = Math.max(theCount, theMax);
+        if (theLabels.size() != size) {
+            while (theLabels.size() < size) {
+                addIconLabel(row, theLabels, theIcon);
+            }
+            while (theLabels.size() > size) {
+                row.remove(theLabels.remove(theLabels.size() - 1));
+            }
+            thePanel.revalidate();
+            thePanel.repaint();
+        }
+        for (int i = 0; i < theLabels.size(); i++) {
+            theLabels.get(i).setVisible(i < theCount);
+        }
     }
 
     /**